@@ -0,0 +1,100 @@
+package com.teammate.benchmarks;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import com.teammate.models.Team;
+import com.teammate.services.ValidationService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+// Shared roster fixtures for the JMH benchmarks
+public final class BenchmarkData {
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    // Personality mixes as Leader:Balanced:Thinker percentages
+    public enum PersonalityMix {
+        UNIFORM(34, 33, 33),
+        LEADER_SCARCE(5, 70, 25),
+        THINKER_HEAVY(15, 25, 60);
+
+        private final int leaderPercent;
+        private final int balancedPercent;
+
+        PersonalityMix(int leaderPercent, int balancedPercent, int thinkerPercent) {
+            this.leaderPercent = leaderPercent;
+            this.balancedPercent = balancedPercent;
+        }
+
+        PersonalityType pick(Random random) {
+            int roll = random.nextInt(100);
+            if (roll < leaderPercent) return PersonalityType.LEADER;
+            if (roll < leaderPercent + balancedPercent) return PersonalityType.BALANCED;
+            return PersonalityType.THINKER;
+        }
+    }
+
+    // Builds a reproducible roster of the given size and personality mix
+    public static List<Participant> roster(int size, PersonalityMix mix) {
+        Random random = new Random(SEED);
+        GameRole[] roles = GameRole.values();
+        List<String> games = ValidationService.VALID_GAMES;
+        List<Participant> participants = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            PersonalityType type = mix.pick(random);
+            int score = type.getMinScore() + random.nextInt(type.getMaxScore() - type.getMinScore() + 1);
+            participants.add(new Participant(
+                    "Player " + i,
+                    "player" + i + "@iit.ac.lk",
+                    games.get(random.nextInt(games.size())),
+                    1 + random.nextInt(10),
+                    roles[random.nextInt(roles.length)],
+                    score
+            ));
+        }
+        return participants;
+    }
+
+    // Splits a roster into consecutive teams without running the formation algorithm
+    public static List<Team> chunkIntoTeams(List<Participant> participants, int teamSize) {
+        int totalTeams = participants.size() / teamSize;
+        List<Team> teams = new ArrayList<>(totalTeams);
+        for (int t = 0; t < totalTeams; t++) {
+            Team team = new Team("T" + (t + 1), "Team " + (t + 1));
+            for (int m = 0; m < teamSize; m++) {
+                team.addMember(participants.get(t * teamSize + m));
+            }
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    // Recursively removes a benchmark temp directory
+    public static void deleteDirectory(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // The services report progress on the console; keep that out of the measurements
+    public static void silenceConsole() {
+        PrintStream sink = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(sink);
+        System.setErr(sink);
+    }
+}
@@ -0,0 +1,181 @@
+package com.teammate.benchmarks;
+
+import com.teammate.exceptions.FileProcessingException;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.services.FileHandler;
+import com.teammate.services.SurveyWriteQueue;
+import com.teammate.services.TeamCsvWriter;
+import com.teammate.tools.RosterGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Import/export throughput of FileHandler against generated files in a temp directory.
+// Each op processes the whole file, so bytes/s and rows/s come from IoCounters.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class CsvIoBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"5"})
+    public int teamSize;
+
+    private final FileHandler fileHandler = new FileHandler();
+
+    private Path workDir;
+    private Path playersFile;
+    private Path teamsFile;
+    private Path memberRowsFile;
+    private long playersFileBytes;
+    private long teamsFileBytes;
+    private long memberRowsFileBytes;
+    private List<Team> teams;
+    private List<Participant> roster;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, FileProcessingException {
+        BenchmarkData.silenceConsole();
+        workDir = Files.createTempDirectory("teammate-io-bench");
+        playersFile = workDir.resolve("players.csv");
+        teamsFile = workDir.resolve("formed_teams.csv");
+
+        new RosterGenerator(BenchmarkData.SEED).generate(playersFile, rows);
+        playersFileBytes = Files.size(playersFile);
+
+        roster = BenchmarkData.roster(rows, BenchmarkData.PersonalityMix.UNIFORM);
+        teams = BenchmarkData.chunkIntoTeams(roster, teamSize);
+        fileHandler.saveTeams(teams, teamsFile.toString());
+        teamsFileBytes = Files.size(teamsFile);
+
+        memberRowsFile = workDir.resolve("formed_teams_members.csv");
+        fileHandler.saveTeams(teams, memberRowsFile.toString(), TeamCsvWriter.Layout.MEMBER_ROWS);
+        memberRowsFileBytes = Files.size(memberRowsFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkData.deleteDirectory(workDir);
+    }
+
+    @Benchmark
+    public List<Participant> loadParticipants(IoCounters counters) throws FileProcessingException {
+        List<Participant> loaded = fileHandler.loadParticipants(playersFile.toString());
+        counters.record(playersFileBytes, rows);
+        return loaded;
+    }
+
+    // Formation-only columns; names and emails stay undecoded
+    @Benchmark
+    public List<Participant> loadParticipantsProjected(IoCounters counters) throws FileProcessingException {
+        List<Participant> loaded = fileHandler.loadParticipantsProjected(playersFile.toString());
+        counters.record(playersFileBytes, rows);
+        return loaded;
+    }
+
+    @Benchmark
+    public Path saveTeams(IoCounters counters) throws FileProcessingException {
+        fileHandler.saveTeams(teams, teamsFile.toString());
+        counters.record(teamsFileBytes, teams.size());
+        return teamsFile;
+    }
+
+    @Benchmark
+    public Path saveTeamsMemberRows(IoCounters counters) throws FileProcessingException {
+        fileHandler.saveTeams(teams, memberRowsFile.toString(), TeamCsvWriter.Layout.MEMBER_ROWS);
+        counters.record(memberRowsFileBytes, (long) teams.size() * teamSize);
+        return memberRowsFile;
+    }
+
+    // Formed teams back from disk, members resolved by ID against the roster
+    @Benchmark
+    public List<Team> loadFormedTeams(IoCounters counters) throws FileProcessingException {
+        List<Team> loaded = fileHandler.loadFormedTeams(teamsFile.toString(), roster);
+        counters.record(teamsFileBytes, loaded.size());
+        return loaded;
+    }
+
+    @Benchmark
+    public List<Team> loadFormedTeamsMemberRows(IoCounters counters) throws FileProcessingException {
+        List<Team> loaded = fileHandler.loadFormedTeams(memberRowsFile.toString(), roster);
+        counters.record(memberRowsFileBytes, (long) loaded.size() * teamSize);
+        return loaded;
+    }
+
+    // Single survey submission: one open/append/close of the survey file per op
+    @State(Scope.Thread)
+    public static class SurveyAppendState {
+        Path surveyFile;
+        Participant participant;
+        long rowBytes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            BenchmarkData.silenceConsole();
+            surveyFile = Files.createTempFile("teammate-survey-bench", ".csv");
+            participant = BenchmarkData.roster(1, BenchmarkData.PersonalityMix.UNIFORM).get(0);
+            rowBytes = (participant.getParticipantId() + "," + participant.getName() + "," +
+                    participant.getEmail() + "," + participant.getGameInterest() + "," +
+                    participant.getSkillLevel() + "," + participant.getPreferredRole().name() + "," +
+                    participant.getPersonalityScore() + System.lineSeparator()).length();
+        }
+
+        // Keep the appended file from growing across iterations
+        @Setup(Level.Iteration)
+        public void truncate() throws IOException {
+            Files.deleteIfExists(surveyFile);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(surveyFile);
+        }
+    }
+
+    // savePlayerToSurveyFile goes through the group-commit queue (benchmarked below), so this
+    // drives the direct append path (saveParticipant) against a temp file
+    @Benchmark
+    public Path savePlayerToSurveyFile(SurveyAppendState state, IoCounters counters) {
+        fileHandler.saveParticipant(state.participant, state.surveyFile.toString());
+        counters.record(state.rowBytes, 1);
+        return state.surveyFile;
+    }
+
+    // Group-commit path: all benchmark threads share one SurveyWriteQueue, so one fsync covers many rows
+    @State(Scope.Benchmark)
+    public static class SurveyQueueState {
+        Path surveyFile;
+        SurveyWriteQueue queue;
+        Participant participant;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            BenchmarkData.silenceConsole();
+            surveyFile = Files.createTempFile("teammate-survey-queue-bench", ".csv");
+            queue = new SurveyWriteQueue(surveyFile);
+            participant = BenchmarkData.roster(1, BenchmarkData.PersonalityMix.UNIFORM).get(0);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            queue.close();
+            Files.deleteIfExists(surveyFile);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void submitPlayerToSurveyQueue(SurveyQueueState state) {
+        state.queue.submit(state.participant).join();
+    }
+}
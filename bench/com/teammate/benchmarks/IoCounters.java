@@ -0,0 +1,27 @@
+package com.teammate.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Secondary JMH counters reported as rates next to ops/s: bytes/s and rows/s.
+// Allocation per row is gc.alloc.rate.norm divided by the benchmark's row count.
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+@State(Scope.Thread)
+public class IoCounters {
+    public long bytes;
+    public long rows;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
+        rows = 0;
+    }
+
+    void record(long byteCount, long rowCount) {
+        bytes += byteCount;
+        rows += rowCount;
+    }
+}
@@ -0,0 +1,61 @@
+package com.teammate.benchmarks;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.PersonalityType;
+import com.teammate.services.RosterIndex;
+import com.teammate.services.RosterPage;
+import com.teammate.services.RosterQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Latency of one organizer page against a large roster; the index and sort orders are built in setup
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RosterQueryBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"0", "100"})
+    public int page;
+
+    private RosterIndex index;
+    private RosterQuery unfiltered;
+    private RosterQuery narrow;
+    private RosterQuery broad;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceConsole();
+        index = new RosterIndex(BenchmarkData.roster(rosterSize, BenchmarkData.PersonalityMix.UNIFORM));
+        unfiltered = RosterQuery.all().sortedBy(RosterQuery.SortKey.SKILL, true);
+        narrow = RosterQuery.all().withGame("Valorant").withRole(GameRole.STRATEGIST)
+                .withPersonality(PersonalityType.LEADER).withSkillBetween(7, 10);
+        broad = RosterQuery.all().withSkillBetween(3, 10).sortedBy(RosterQuery.SortKey.PERSONALITY_SCORE, false);
+        index.query(unfiltered, 0, 20);
+        index.query(narrow, 0, 20);
+        index.query(broad, 0, 20);
+    }
+
+    @Benchmark
+    public RosterPage unfilteredPage() {
+        return index.query(unfiltered, page, 20);
+    }
+
+    // Four intersected filters, few matches: ranks are collected and sorted
+    @Benchmark
+    public RosterPage narrowFilterPage() {
+        return index.query(narrow, page, 20);
+    }
+
+    // Most of the roster matches: the sort order is walked
+    @Benchmark
+    public RosterPage broadFilterPage() {
+        return index.query(broad, page, 20);
+    }
+}
@@ -0,0 +1,56 @@
+package com.teammate.benchmarks;
+
+import com.teammate.exceptions.TeamFormationException;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.services.FormationStrategy;
+import com.teammate.services.TeamBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of TeamBuilder.formTeams and analyzeTeamFormation across roster shapes.
+// Run with the GC profiler (the default in BenchmarkRunner) to get allocation rates.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class TeamFormationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"4", "5", "8"})
+    public int teamSize;
+
+    @Param({"UNIFORM", "LEADER_SCARCE", "THINKER_HEAVY"})
+    public BenchmarkData.PersonalityMix mix;
+
+    @Param({"FAIR_DISTRIBUTION", "SKILL_BALANCED", "ROLE_COVERAGE"})
+    public FormationStrategy strategy;
+
+    private TeamBuilder builder;
+    private List<Team> formedTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws TeamFormationException {
+        BenchmarkData.silenceConsole();
+        List<Participant> participants = BenchmarkData.roster(rosterSize, mix);
+        builder = new TeamBuilder(teamSize, participants);
+        formedTeams = BenchmarkData.chunkIntoTeams(participants, teamSize);
+    }
+
+    @Benchmark
+    public List<Team> formTeams() throws TeamFormationException {
+        return builder.formTeams(strategy);
+    }
+
+    @Benchmark
+    public Map<String, Object> analyzeTeamFormation() {
+        return builder.analyzeTeamFormation(formedTeams);
+    }
+}
@@ -0,0 +1,57 @@
+package com.teammate.benchmarks;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-call cost of Team membership changes, which the formation phases call once per participant
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamOperationsBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int teamSize;
+
+    @Param({"UNIFORM", "LEADER_SCARCE", "THINKER_HEAVY"})
+    public BenchmarkData.PersonalityMix mix;
+
+    private List<Participant> members;
+    private Team team;
+    private Participant extra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceConsole();
+        members = BenchmarkData.roster(teamSize, mix);
+        extra = members.get(members.size() - 1);
+
+        // Leave one spot open so addMember/removeMember cycle around a full team
+        team = new Team("T1", "Team 1");
+        for (int i = 0; i < teamSize - 1; i++) {
+            team.addMember(members.get(i));
+        }
+    }
+
+    @Benchmark
+    public Team addThenRemoveMember() {
+        team.addMember(extra);
+        team.removeMember(extra);
+        return team;
+    }
+
+    @Benchmark
+    public Team fillTeam() {
+        Team fresh = new Team("T2", "Team 2");
+        for (Participant member : members) {
+            fresh.addMember(member);
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,55 @@
+package com.teammate.benchmarks;
+
+import com.teammate.models.IdGenerator;
+import com.teammate.models.Participant;
+import com.teammate.services.ValidationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Per-row cost of the validation and ID helpers used on the import and survey paths
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+    private static final int SAMPLE_SIZE = 1024;
+
+    // Mixed casing and padding as organizers and players actually type it
+    private static final String[] RAW_GAMES = {
+            "Valorant", "dota", " FIFA ", "basketball", "BADMINTON",
+            "csgo", "League of Legends", "overwatch", "Fortnite"
+    };
+
+    private List<Participant> participants;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.silenceConsole();
+        participants = BenchmarkData.roster(SAMPLE_SIZE, BenchmarkData.PersonalityMix.UNIFORM);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLE_SIZE - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public List<String> validateParticipantData() {
+        return ValidationService.validateParticipantData(participants.get(next()));
+    }
+
+    @Benchmark
+    public String normalizeGameName() {
+        return ValidationService.normalizeGameName(RAW_GAMES[next() % RAW_GAMES.length]);
+    }
+
+    @Benchmark
+    public String generateParticipantId() {
+        return IdGenerator.generateParticipantId();
+    }
+}
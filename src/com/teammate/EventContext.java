@@ -0,0 +1,211 @@
+package com.teammate;
+
+import com.teammate.auth.CredentialManager;
+import com.teammate.auth.UserManager;
+import com.teammate.models.IdGenerator;
+import com.teammate.models.IdSequencer;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.services.BackupService;
+import com.teammate.services.FileHandler;
+import com.teammate.services.RosterIndex;
+import com.teammate.services.SurveyFileWatcher;
+import com.teammate.services.SurveyProcessor;
+import com.teammate.services.TeamIndex;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Everything that belongs to one tournament: its data directory (players.csv, credentials,
+// formed teams, backups), ID sequencer, credential store, imported roster and formed teams.
+// Contexts share no mutable state, so one JVM can run many events side by side (and tests can
+// run in parallel, each in its own temporary directory).
+//
+// The roster is copy-on-write: imports are rare bulk additions while menus and team formation
+// read it constantly. Its RosterIndex is rebuilt on the first query after an import. The formed
+// team list is replaced as a whole, and each replacement publishes a fresh TeamIndex together with
+// the list so player lookups never see one without the other; the index also follows later member
+// changes on those teams.
+public class EventContext implements AutoCloseable {
+    private final String name;
+    private final Path directory;
+    private final IdSequencer ids;
+    private final CredentialManager credentials;
+    private final FileHandler fileHandler;
+    private final SurveyProcessor surveyProcessor;
+    private final BackupService backupService;
+    private final SurveyFileWatcher surveyWatcher;
+
+    private final List<Participant> participants = new CopyOnWriteArrayList<>();
+    private volatile RosterIndex rosterIndex;
+    private volatile FormedTeams formedTeams = new FormedTeams(Collections.emptyList(), null);
+    // Survey rows appended to players.csv, keyed by lowercase email, until they are imported.
+    // Touched by the UI and the survey watcher, so only through the synchronized methods below.
+    private final Map<String, Participant> pendingSurveyPlayers = new LinkedHashMap<>();
+
+    private EventContext(String name, Path directory, IdSequencer ids) {
+        this.name = name;
+        this.directory = directory;
+        this.ids = ids;
+        this.credentials = new CredentialManager(directory.resolve(CredentialManager.DEFAULT_FILE));
+        this.fileHandler = new FileHandler(directory, ids);
+        this.surveyProcessor = new SurveyProcessor(ids);
+        this.backupService = new BackupService(directory.resolve("backups"));
+        this.surveyWatcher = new SurveyFileWatcher(fileHandler.getSurveyFile());
+        ids.seed(Collections.emptyList(), fileHandler.getSurveyFile());
+    }
+
+    // The single-event layout: files in the working directory, process-wide IdGenerator IDs
+    public static EventContext inWorkingDirectory() {
+        return new EventContext("default", Paths.get(""), IdGenerator.defaultSequencer());
+    }
+
+    // A separate event with its own directory (created if missing) and its own IDs
+    public static EventContext open(String name, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new EventContext(name, directory, new IdSequencer());
+    }
+
+    public String getName() { return name; }
+    public Path getDirectory() { return directory; }
+    public IdSequencer getIds() { return ids; }
+    public CredentialManager getCredentials() { return credentials; }
+    public FileHandler getFileHandler() { return fileHandler; }
+    public SurveyProcessor getSurveyProcessor() { return surveyProcessor; }
+    public BackupService getBackupService() { return backupService; }
+    public SurveyFileWatcher getSurveyWatcher() { return surveyWatcher; }
+
+    public Path getSurveyFile() {
+        return fileHandler.getSurveyFile();
+    }
+
+    public Path getCredentialsFile() {
+        return credentials.getCredentialsFile();
+    }
+
+    // A login session against this event's credential store
+    public UserManager newUserManager() {
+        return new UserManager(credentials);
+    }
+
+    // Read-only view of the imported roster
+    public List<Participant> getParticipants() {
+        return Collections.unmodifiableList(participants);
+    }
+
+    public void addParticipants(Collection<Participant> newParticipants) {
+        participants.addAll(newParticipants);
+        rosterIndex = null;
+        for (Participant p : newParticipants) {
+            ids.observe(p.getParticipantId());
+        }
+    }
+
+    // Indexes over the current roster for filtered, paged views
+    public RosterIndex getRosterIndex() {
+        RosterIndex index = rosterIndex;
+        if (index == null || index.size() != participants.size()) {
+            synchronized (this) {
+                index = rosterIndex;
+                if (index == null || index.size() != participants.size()) {
+                    // toArray is an atomic snapshot of the copy-on-write list
+                    index = new RosterIndex(Arrays.asList(participants.toArray(new Participant[0])));
+                    rosterIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public List<Team> getTeams() {
+        return formedTeams.teams;
+    }
+
+    // Formed, re-formed or loaded teams; also rebuilds the participant-to-team index
+    public synchronized void setTeams(List<Team> formed) {
+        this.formedTeams = new FormedTeams(formed, null);
+    }
+
+    // The last analysis of the current teams, or null if none was run since they changed
+    public Map<String, Object> getAnalysis() {
+        return formedTeams.analysis;
+    }
+
+    // Kept only while the teams it describes are still current
+    public synchronized void setAnalysis(List<Team> analyzedTeams, Map<String, Object> analysis) {
+        FormedTeams current = formedTeams;
+        if (current.teams.equals(analyzedTeams)) {
+            formedTeams = new FormedTeams(current, analysis);
+        }
+    }
+
+    public TeamIndex getTeamIndex() {
+        return formedTeams.index;
+    }
+
+    // The team a participant is on (matched by email), or null before teams are formed
+    public Team findTeamOf(Participant participant) {
+        return formedTeams.index.teamOf(participant);
+    }
+
+    // Snapshot in arrival order; later changes are not reflected
+    public synchronized List<Participant> getPendingSurveyPlayers() {
+        return List.copyOf(pendingSurveyPlayers.values());
+    }
+
+    // Queues survey players for import; a newer row for the same email replaces the older one
+    public synchronized void addPendingSurveyPlayers(Collection<Participant> players) {
+        for (Participant player : players) {
+            ids.observe(player.getParticipantId());
+            pendingSurveyPlayers.put(player.getEmail().toLowerCase(), player);
+        }
+    }
+
+    // Keeps only the pending players whose email is among stillNew; returns how many remain
+    public synchronized int retainPendingSurveyPlayers(Collection<Participant> stillNew) {
+        Set<String> emails = new HashSet<>();
+        for (Participant player : stillNew) {
+            emails.add(player.getEmail().toLowerCase());
+        }
+        pendingSurveyPlayers.keySet().retainAll(emails);
+        return pendingSurveyPlayers.size();
+    }
+
+    // Commits queued survey rows and stops watching players.csv
+    @Override
+    public void close() {
+        fileHandler.close();
+        surveyWatcher.close();
+    }
+
+    private static final class FormedTeams {
+        final List<Team> teams;
+        final TeamIndex index;
+        final Map<String, Object> analysis;
+
+        FormedTeams(List<Team> formed, Map<String, Object> analysis) {
+            this.teams = Collections.unmodifiableList(new ArrayList<>(formed));
+            this.index = new TeamIndex(teams);
+            this.analysis = analysis == null ? null : Collections.unmodifiableMap(new LinkedHashMap<>(analysis));
+        }
+
+        // Same teams and index, new analysis
+        FormedTeams(FormedTeams teams, Map<String, Object> analysis) {
+            this.teams = teams.teams;
+            this.index = teams.index;
+            this.analysis = Collections.unmodifiableMap(new LinkedHashMap<>(analysis));
+        }
+    }
+}
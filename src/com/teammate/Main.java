@@ -2,12 +2,22 @@ package com.teammate;
 
 import com.teammate.auth.UserManager;
 import com.teammate.models.*;
+import com.teammate.services.BackupService;
 import com.teammate.services.FileHandler;
+import com.teammate.services.FormationOption;
+import com.teammate.services.FormationStrategy;
+import com.teammate.services.RosterIndex;
+import com.teammate.services.RosterPage;
+import com.teammate.services.RosterQuery;
+import com.teammate.services.SurveyFileWatcher;
 import com.teammate.services.SurveyProcessor;
 import com.teammate.services.TeamBuilder;
+import com.teammate.services.TeamExportFormat;
 import com.teammate.services.ValidationService;
 import com.teammate.exceptions.FileProcessingException;
 import com.teammate.exceptions.TeamFormationException;
+import com.teammate.metrics.MetricsExporter;
+import com.teammate.metrics.MetricsRegistry;
 
 import java.util.List;
 import java.util.Map;
@@ -17,13 +27,16 @@ import java.util.Set;
 import static com.teammate.services.ValidationService.VALID_GAMES;
 
 public class Main {
+    private static final int PARTICIPANTS_PAGE_SIZE = 20;
+
     private static UserManager userManager;
     private static FileHandler fileHandler;
     private static SurveyProcessor surveyProcessor;
+    private static BackupService backupService;
     private static Scanner scanner;
 
-    private static List<Participant> participants;
-    private static List<Team> teams;
+    // Roster, formed teams, IDs and file locations of the event this console is running
+    private static EventContext event;
 
     public static void main(String[] args) {
         initializeComponents();
@@ -31,18 +44,52 @@ public class Main {
     }
 
     private static void initializeComponents() {
-        userManager = new UserManager();
-        fileHandler = new FileHandler();
-        surveyProcessor = new SurveyProcessor();
+        event = EventContext.inWorkingDirectory();
+        userManager = event.newUserManager();
+        fileHandler = event.getFileHandler();
+        surveyProcessor = event.getSurveyProcessor();
+        backupService = event.getBackupService();
         scanner = new Scanner(System.in);
-        participants = new java.util.ArrayList<>();
-        teams = new java.util.ArrayList<>();
 
         System.out.println("                   TEAMMATE SYSTEM v2.0                       ");
         System.out.println("              Intelligent Team Formation System               ");
 
-        // Initialize ID generator
-        IdGenerator.initializeCounter(participants);
+        restoreSessionSnapshot();
+
+        // The event's ID sequencer continues after the IDs already in players.csv
+        System.out.println("Next ID will be: " + event.getIds().peekNextParticipantId());
+
+        // Tail players.csv in the background so new survey rows are ready when the organizer checks
+        try {
+            event.getSurveyWatcher().start();
+        } catch (java.io.IOException e) {
+            System.out.println("⚠️  Survey file watcher unavailable: " + e.getMessage());
+        }
+    }
+
+    // Picks up the roster, teams and analysis of the last run, if it left a snapshot behind
+    private static void restoreSessionSnapshot() {
+        java.nio.file.Path snapshot = event.getDirectory().resolve(SessionSnapshot.DEFAULT_FILE);
+        if (!java.nio.file.Files.exists(snapshot)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            SessionSnapshot.restore(event, snapshot);
+            System.out.printf("♻️  Restored previous session: %d participants, %d teams (%.1f ms)%n",
+                    event.getParticipants().size(), event.getTeams().size(), (System.nanoTime() - start) / 1e6);
+        } catch (java.io.IOException e) {
+            System.out.println("⚠️  Could not restore previous session, starting empty: " + e.getMessage());
+        }
+    }
+
+    // Called after every change to the roster or teams, so a crash loses at most the current step
+    private static void saveSessionSnapshot() {
+        try {
+            SessionSnapshot.save(event, event.getDirectory().resolve(SessionSnapshot.DEFAULT_FILE));
+        } catch (java.io.IOException e) {
+            System.out.println("⚠️  Could not save session snapshot: " + e.getMessage());
+        }
     }
 
     private static void runApplication() {
@@ -61,6 +108,8 @@ public class Main {
         }
 
         scanner.close();
+        saveSessionSnapshot();
+        event.close(); // Commit any queued survey rows and stop the survey watcher
         System.out.println("\nThank you for using TeamMate System! Goodbye! 👋");
     }
 
@@ -103,8 +152,8 @@ public class Main {
         System.out.println("                   SYSTEM INFORMATION");
         System.out.println("═".repeat(60));
         System.out.println("📊 Current Statistics:");
-        System.out.println("   • Participants loaded: " + participants.size());
-        System.out.println("   • Teams formed: " + teams.size());
+        System.out.println("   • Participants loaded: " + event.getParticipants().size());
+        System.out.println("   • Teams formed: " + event.getTeams().size());
 
         // Calculate next ID from file (most accurate)
         int maxId = getMaxIdFromPlayersCSV();
@@ -122,7 +171,7 @@ public class Main {
     private static int getMaxIdFromPlayersCSV() {
         int maxId = 0;
         try {
-            java.nio.file.Path playersFile = java.nio.file.Paths.get("players.csv");
+            java.nio.file.Path playersFile = event.getSurveyFile();
             if (java.nio.file.Files.exists(playersFile)) {
                 List<String> lines = java.nio.file.Files.readAllLines(playersFile);
                 for (int i = 1; i < lines.size(); i++) { // Skip header
@@ -184,7 +233,7 @@ public class Main {
     private static boolean hasCompletedSurvey(String email) {
         // Check if player already completed survey in players.csv
         try {
-            List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV("players.csv");
+            List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV(event.getSurveyFile().toString());
             return surveyPlayers.stream()
                     .anyMatch(p -> p.getEmail().equalsIgnoreCase(email));
         } catch (FileProcessingException e) {
@@ -227,17 +276,19 @@ public class Main {
         System.out.println("                   ORGANIZER DASHBOARD");
         System.out.println("═".repeat(60));
         System.out.println("1. Import Players from CSV File");
-        System.out.println("2. View All Participants (" + participants.size() + " loaded)");
+        System.out.println("2. View All Participants (" + event.getParticipants().size() + " loaded)");
         System.out.println("3. Form Teams Automatically");
         System.out.println("4. View Formed Teams");
         System.out.println("5. Save Teams to Formed Teams File");
-        System.out.println("6. Team Formation Analysis");
-        System.out.println("7. Check for New Survey Players");
-        System.out.println("8. Backup System Data");
-        System.out.println("9. Logout");
-        System.out.println("10. Exit System");
+        System.out.println("6. Load Teams from Formed Teams File");
+        System.out.println("7. Team Formation Analysis");
+        System.out.println("8. Check for New Survey Players");
+        System.out.println("9. Backup / Restore System Data");
+        System.out.println("10. Export Performance Metrics");
+        System.out.println("11. Logout");
+        System.out.println("12. Exit System");
         System.out.println("═".repeat(60));
-        System.out.print("Choose an option (1-10): ");
+        System.out.print("Choose an option (1-12): ");
 
         try {
             int choice = Integer.parseInt(scanner.nextLine());
@@ -259,22 +310,28 @@ public class Main {
                     saveTeamsToFormedFile();
                     break;
                 case 6:
-                    showTeamAnalysis();
+                    loadTeamsFromFormedFile();
                     break;
                 case 7:
-                    checkForNewSurveyPlayers();
+                    showTeamAnalysis();
                     break;
                 case 8:
-                    backupSystemData();
+                    checkForNewSurveyPlayers();
                     break;
                 case 9:
+                    backupSystemData();
+                    break;
+                case 10:
+                    exportMetrics();
+                    break;
+                case 11:
                     userManager.logout();
                     System.out.println("✅ Logged out successfully.");
                     break;
-                case 10:
+                case 12:
                     return false;
                 default:
-                    System.out.println("❌ Invalid choice. Please enter 1-10.");
+                    System.out.println("❌ Invalid choice. Please enter 1-12.");
             }
             return true;
 
@@ -285,72 +342,149 @@ public class Main {
     }
 
     private static void backupSystemData() {
+        System.out.println("\n💾 BACKUP SYSTEM DATA");
+        System.out.println("─".repeat(40));
+        System.out.println("1. Create Backup");
+        System.out.println("2. Restore Backup");
+        System.out.println("3. Prune Old Backups");
+        System.out.print("Choose an option (1-3) [1]: ");
+        String choice = scanner.nextLine().trim();
+
         try {
-            System.out.println("\n💾 BACKUP SYSTEM DATA");
-            System.out.println("─".repeat(40));
+            switch (choice) {
+                case "2":
+                    restoreBackup();
+                    break;
+                case "3":
+                    pruneBackups();
+                    break;
+                default:
+                    createBackup();
+            }
+        } catch (java.io.IOException e) {
+            System.out.println("❌ Backup failed: " + e.getMessage());
+        }
+    }
 
-            // Create timestamp for backup files
-            String timestamp = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+    private static void createBackup() throws java.io.IOException {
+        List<java.nio.file.Path> files = new java.util.ArrayList<>();
+        files.add(event.getSurveyFile());
+        files.add(event.getCredentialsFile());
 
-            // Backup players.csv to root directory
-            String playersFile = "players.csv";
-            String playersBackup = "players_backup_" + timestamp + ".csv";
+        // Every formed teams file, whatever format it was exported in
+        try (java.util.stream.Stream<java.nio.file.Path> stream = java.nio.file.Files.list(event.getDirectory().toAbsolutePath())) {
+            stream.filter(path -> path.getFileName().toString().startsWith("formed_teams_"))
+                    .sorted()
+                    .forEach(files::add);
+        }
 
-            if (java.nio.file.Files.exists(java.nio.file.Paths.get(playersFile))) {
-                java.nio.file.Files.copy(
-                        java.nio.file.Paths.get(playersFile),
-                        java.nio.file.Paths.get(playersBackup),
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING
-                );
-                System.out.println("✅ Players data backed up to: " + playersBackup);
-            } else {
-                System.out.println("⚠️  players.csv not found - skipping");
-            }
+        BackupService.Manifest manifest = backupService.backup(files);
+        for (BackupService.Entry entry : manifest.getEntries()) {
+            System.out.println("✅ Backed up: " + entry.getFileName() + " (" + entry.getSize() + " bytes)");
+        }
+        if (!java.nio.file.Files.exists(event.getSurveyFile())) {
+            System.out.println("⚠️  players.csv not found - skipping");
+        }
+        if (!java.nio.file.Files.exists(event.getCredentialsFile())) {
+            System.out.println("⚠️  player_credentials.csv not found - skipping");
+        }
 
-            // Backup player credentials
-            String credentialsFile = "player_credentials.csv";
-            String credentialsBackup = "player_credentials_backup_" + timestamp + ".csv";
+        System.out.println("✅ System backup completed successfully!");
+        System.out.println("💡 Backup " + manifest.getName() + " saved in " + backupService.getBackupRoot().toAbsolutePath()
+                + " (unchanged data is stored only once).");
+    }
 
-            if (java.nio.file.Files.exists(java.nio.file.Paths.get(credentialsFile))) {
-                java.nio.file.Files.copy(
-                        java.nio.file.Paths.get(credentialsFile),
-                        java.nio.file.Paths.get(credentialsBackup),
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING
-                );
-                System.out.println("✅ Player credentials backed up to: " + credentialsBackup);
-            } else {
-                System.out.println("⚠️  player_credentials.csv not found - skipping");
-            }
+    private static void restoreBackup() throws java.io.IOException {
+        List<BackupService.Manifest> backups = backupService.listBackups();
+        if (backups.isEmpty()) {
+            System.out.println("❌ No backups found.");
+            return;
+        }
+
+        System.out.println("\nAvailable backups (newest first):");
+        for (int i = 0; i < backups.size(); i++) {
+            BackupService.Manifest backup = backups.get(i);
+            System.out.println("  " + (i + 1) + ". " + backup.getName() + " - " + backup.getEntries().size()
+                    + " files, " + backup.getTotalBytes() + " bytes");
+        }
+        System.out.print("Choose a backup to restore (1-" + backups.size() + "): ");
+
+        int index;
+        try {
+            index = Integer.parseInt(scanner.nextLine().trim()) - 1;
+        } catch (NumberFormatException e) {
+            index = -1;
+        }
+        if (index < 0 || index >= backups.size()) {
+            System.out.println("❌ Invalid choice.");
+            return;
+        }
+
+        System.out.print("⚠️  This overwrites the current files with the backed-up versions. Continue? (y/N): ");
+        String confirm = scanner.nextLine().trim().toLowerCase();
+        if (!confirm.equals("y") && !confirm.equals("yes")) {
+            System.out.println("Restore cancelled.");
+            return;
+        }
+
+        backupService.restore(backups.get(index), event.getDirectory().toAbsolutePath());
+        System.out.println("✅ Restored " + backups.get(index).getEntries().size() + " files from " + backups.get(index).getName());
+        System.out.println("💡 Restart the system to reload restored player credentials.");
+    }
 
-            // Backup any formed teams files - FIXED VERSION
+    private static void pruneBackups() throws java.io.IOException {
+        System.out.print("Number of most recent backups to keep [5]: ");
+        String input = scanner.nextLine().trim();
+        int keep = 5;
+        if (!input.isEmpty()) {
             try {
-                System.out.println("\n🔍 Looking for teams files to backup...");
-                java.nio.file.Files.list(java.nio.file.Paths.get("."))
-                        .filter(path -> {
-                            String fileName = path.getFileName().toString();
-                            // Check if filename starts with "formed_teams_" and ends with ".csv"
-                            return fileName.startsWith("formed_teams_") && fileName.endsWith(".csv");
-                        })
-                        .forEach(teamFile -> {
-                            try {
-                                String teamFileName = teamFile.getFileName().toString();
-                                String teamBackup = "backup_" + teamFileName;
-                                java.nio.file.Files.copy(teamFile, java.nio.file.Paths.get(teamBackup),
-                                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                                System.out.println("✅ Teams file backed up to: " + teamBackup);
-                            } catch (Exception e) {
-                                System.out.println("❌ Failed to backup teams file: " + teamFile.getFileName());
-                            }
-                        });
-            } catch (Exception e) {
-                System.out.println("⚠️  No teams files found to backup");
+                keep = Integer.parseInt(input);
+            } catch (NumberFormatException e) {
+                System.out.println("❌ Please enter a valid number.");
+                return;
             }
+        }
+        if (keep < 1) {
+            System.out.println("❌ At least one backup must be kept.");
+            return;
+        }
 
-            System.out.println("✅ System backup completed successfully!");
-            System.out.println("💡 All backups saved in root directory with timestamp.");
+        int before = backupService.listBackups().size();
+        int chunksRemoved = backupService.prune(keep);
+        System.out.println("✅ Removed " + Math.max(0, before - keep) + " backups and " + chunksRemoved + " unused data chunks.");
+    }
 
-        } catch (Exception e) {
-            System.out.println("❌ Backup failed: " + e.getMessage());
+    private static void exportMetrics() {
+        System.out.println("\n📈 EXPORT PERFORMANCE METRICS");
+        System.out.println("─".repeat(40));
+
+        if (!MetricsRegistry.isEnabled()) {
+            System.out.println("⚠️  Metrics collection is off (start with -Dteammate.metrics=true to record from startup).");
+            System.out.print("Enable collection now? (y/N): ");
+            String answer = scanner.nextLine().trim().toLowerCase();
+            if (answer.equals("y") || answer.equals("yes")) {
+                MetricsRegistry.setEnabled(true);
+                System.out.println("✅ Metrics collection enabled. Export again after some activity.");
+            }
+            return;
+        }
+
+        System.out.print("Format - 1. Prometheus text  2. JSON [1]: ");
+        String choice = scanner.nextLine().trim();
+        String timestamp = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+
+        try {
+            java.nio.file.Path target;
+            if (choice.equals("2")) {
+                target = java.nio.file.Paths.get("metrics_" + timestamp + ".json");
+                MetricsExporter.writeJson(target);
+            } else {
+                target = java.nio.file.Paths.get("metrics_" + timestamp + ".prom");
+                MetricsExporter.writePrometheus(target);
+            }
+            System.out.println("✅ Metrics exported to: " + target.toAbsolutePath());
+        } catch (java.io.IOException e) {
+            System.out.println("❌ Failed to export metrics: " + e.getMessage());
         }
     }
 
@@ -401,7 +535,7 @@ public class Main {
             String filePath = scanner.nextLine().trim();
 
             if (filePath.isEmpty()) {
-                filePath = "players.csv"; // Default to root directory
+                filePath = event.getSurveyFile().toString(); // Default to the event's survey file
             }
 
             System.out.println("📥 Importing players from: " + filePath);
@@ -410,7 +544,7 @@ public class Main {
             System.out.println("✅ Found " + importedPlayers.size() + " players in the CSV file");
 
             // Filter out players that are already in the system
-            List<Participant> newPlayers = fileHandler.getNewPlayers(importedPlayers, participants);
+            List<Participant> newPlayers = fileHandler.getNewPlayers(importedPlayers, event.getParticipants());
 
             if (newPlayers.isEmpty()) {
                 System.out.println("💡 All players from this file are already in the system.");
@@ -418,9 +552,10 @@ public class Main {
             }
 
             // Add only new players to the system
-            participants.addAll(newPlayers);
+            event.addParticipants(newPlayers);
+            saveSessionSnapshot();
             System.out.println("✅ Added " + newPlayers.size() + " new players to the system");
-            System.out.println("📊 Total participants in system: " + participants.size());
+            System.out.println("📊 Total participants in system: " + event.getParticipants().size());
 
             // Show imported players
             System.out.println("\n📝 Newly Imported Players:");
@@ -436,36 +571,119 @@ public class Main {
     }
 
     private static void viewParticipants() {
-        if (participants.isEmpty()) {
+        if (event.getParticipants().isEmpty()) {
             System.out.println("❌ No participants loaded in the system.");
             System.out.println("💡 Please import players from a CSV file first using option 1.");
             return;
         }
 
-        System.out.println("\n" + "─".repeat(80));
-        System.out.println("               CURRENT PARTICIPANTS IN SYSTEM (" + participants.size() + ")");
-        System.out.println("─".repeat(80));
-        System.out.printf("%-12s %-20s %-25s %-15s %-4s %-12s %s%n",
-                "ID", "Name", "Email", "Game", "Skill", "Role", "Personality");
-        System.out.println("─".repeat(80));
+        RosterQuery query = readRosterQuery();
+        RosterIndex index = event.getRosterIndex();
+        int page = 0;
+        while (true) {
+            RosterPage result = index.query(query, page, PARTICIPANTS_PAGE_SIZE);
+
+            System.out.println("\n" + "─".repeat(80));
+            System.out.println("               PARTICIPANTS (" + result.getTotalMatches() + " of " + index.size()
+                    + " match) - page " + (result.getPageCount() == 0 ? 0 : page + 1) + "/" + result.getPageCount());
+            System.out.println("─".repeat(80));
+            System.out.printf("%-12s %-20s %-25s %-15s %-4s %-12s %s%n",
+                    "ID", "Name", "Email", "Game", "Skill", "Role", "Personality");
+            System.out.println("─".repeat(80));
+
+            for (Participant p : result.getParticipants()) {
+                System.out.printf("%-12s %-20s %-25s %-15s %-4d %-12s %s (%d)%n",
+                        p.getParticipantId(),
+                        p.getName(),
+                        p.getEmail(),
+                        p.getGameInterest(),
+                        p.getSkillLevel(),
+                        p.getPreferredRole(),
+                        p.getPersonalityType(),
+                        p.getPersonalityScore()
+                );
+            }
+            System.out.println("─".repeat(80));
+
+            if (!result.hasNext() && !result.hasPrevious()) {
+                return;
+            }
+            System.out.print("[n]ext page, [p]revious page, [q]uit: ");
+            String input = scanner.nextLine().trim().toLowerCase();
+            if (input.equals("n") && result.hasNext()) {
+                page++;
+            } else if (input.equals("p") && result.hasPrevious()) {
+                page--;
+            } else if (!input.equals("n") && !input.equals("p")) {
+                return;
+            }
+        }
+    }
+
+    // Optional filters and sort order for the participant list; blank answers mean "any"
+    private static RosterQuery readRosterQuery() {
+        RosterQuery query = RosterQuery.all();
+        System.out.println("\n🔎 Filter participants (press Enter to skip a filter)");
+
+        System.out.print("Game (" + String.join(", ", VALID_GAMES) + "): ");
+        String game = scanner.nextLine().trim();
+        if (!game.isEmpty()) {
+            if (ValidationService.isValidGame(game)) {
+                query = query.withGame(game);
+            } else {
+                System.out.println("⚠️  Unknown game, showing all games");
+            }
+        }
+
+        System.out.print("Role (" + java.util.Arrays.toString(GameRole.values()) + "): ");
+        String role = scanner.nextLine().trim();
+        if (!role.isEmpty()) {
+            try {
+                query = query.withRole(GameRole.fromName(role));
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠️  Unknown role, showing all roles");
+            }
+        }
+
+        System.out.print("Personality (LEADER, BALANCED, THINKER): ");
+        String personality = scanner.nextLine().trim();
+        if (!personality.isEmpty()) {
+            try {
+                query = query.withPersonality(PersonalityType.valueOf(personality.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠️  Unknown personality type, showing all types");
+            }
+        }
+
+        System.out.print("Skill range, e.g. 5-8: ");
+        String skills = scanner.nextLine().trim();
+        if (!skills.isEmpty()) {
+            try {
+                String[] bounds = skills.split("-", 2);
+                int min = Integer.parseInt(bounds[0].trim());
+                int max = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : min;
+                query = query.withSkillBetween(min, max);
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠️  Invalid skill range, showing all skill levels");
+            }
+        }
 
-        for (Participant p : participants) {
-            System.out.printf("%-12s %-20s %-25s %-15s %-4d %-12s %s (%d)%n",
-                    p.getParticipantId(),
-                    p.getName(),
-                    p.getEmail(),
-                    p.getGameInterest(),
-                    p.getSkillLevel(),
-                    p.getPreferredRole(),
-                    p.getPersonalityType(),
-                    p.getPersonalityScore()
-            );
+        System.out.print("Sort by (ID, NAME, SKILL, PERSONALITY_SCORE; add ' desc' to reverse) [ID]: ");
+        String sort = scanner.nextLine().trim();
+        if (!sort.isEmpty()) {
+            String[] parts = sort.split("\\s+");
+            try {
+                query = query.sortedBy(RosterQuery.SortKey.valueOf(parts[0].toUpperCase()),
+                        parts.length > 1 && parts[1].equalsIgnoreCase("desc"));
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠️  Unknown sort order, sorting by ID");
+            }
         }
-        System.out.println("─".repeat(80));
+        return query;
     }
 
     private static void formTeams() {
-        if (participants.isEmpty()) {
+        if (event.getParticipants().isEmpty()) {
             System.out.println("❌ No participants available. Please import participants first.");
             return;
         }
@@ -474,16 +692,55 @@ public class Main {
         try {
             int teamSize = Integer.parseInt(scanner.nextLine());
 
-            List<String> errors = ValidationService.validateTeamSize(teamSize, participants.size());
+            List<String> errors = ValidationService.validateTeamSize(teamSize, event.getParticipants().size());
             if (!errors.isEmpty()) {
                 System.out.println("❌ Validation errors:");
                 errors.forEach(System.out::println);
                 return;
             }
 
-            TeamBuilder teamBuilder = new TeamBuilder(teamSize, participants);
-            teams = teamBuilder.formTeams();
-            System.out.println("✅ Successfully formed " + teams.size() + " teams!");
+            System.out.println("Formation strategy:");
+            FormationStrategy[] strategies = FormationStrategy.values();
+            for (int i = 0; i < strategies.length; i++) {
+                System.out.println("  " + (i + 1) + ". " + strategies[i].getDisplayName());
+            }
+            System.out.print("Choose a strategy (1-" + strategies.length + ") [1]: ");
+            FormationStrategy strategy = FormationStrategy.FAIR_DISTRIBUTION;
+            String strategyInput = scanner.nextLine().trim();
+            if (!strategyInput.isEmpty()) {
+                try {
+                    strategy = strategies[Integer.parseInt(strategyInput) - 1];
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    System.out.println("⚠️  Unknown strategy, using " + strategy.getDisplayName());
+                }
+            }
+
+            TeamBuilder teamBuilder = new TeamBuilder(teamSize, event.getParticipants());
+            if (strategy == FormationStrategy.OPTIMAL || strategy == FormationStrategy.GENETIC
+                    || strategy == FormationStrategy.PARETO) {
+                System.out.print("Search time limit in seconds [10]: ");
+                String limitInput = scanner.nextLine().trim();
+                if (!limitInput.isEmpty()) {
+                    try {
+                        // Huge inputs saturate at Long.MAX_VALUE here and are capped by the builder
+                        long limitMillis = (long) (Double.parseDouble(limitInput) * 1000);
+                        teamBuilder.setSearchTimeLimit(limitMillis);
+                        if (teamBuilder.getSearchTimeLimit() < limitMillis) {
+                            System.out.println("⚠️  Time limit capped at " +
+                                    TeamBuilder.MAX_SEARCH_TIME_LIMIT_MILLIS / 3_600_000 + " hours");
+                        }
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("⚠️  Invalid time limit, using 10 seconds");
+                    }
+                }
+            }
+            if (strategy == FormationStrategy.PARETO) {
+                event.setTeams(chooseFormation(teamBuilder));
+            } else {
+                event.setTeams(teamBuilder.formTeams(strategy));
+            }
+            System.out.println("✅ Successfully formed " + event.getTeams().size() + " teams!");
+            saveSessionSnapshot();
 
         } catch (NumberFormatException e) {
             System.out.println("❌ Please enter a valid number for team size.");
@@ -492,8 +749,51 @@ public class Main {
         }
     }
 
+    // Shows the precomputed trade-offs side by side and forms the one the organizer picks
+    private static List<Team> chooseFormation(TeamBuilder teamBuilder) throws TeamFormationException {
+        List<FormationOption> options = teamBuilder.findParetoFormations();
+        if (options.isEmpty()) {
+            throw new TeamFormationException("No formation found");
+        }
+
+        System.out.println("\n" + "═".repeat(100));
+        System.out.printf("%-3s %-14s %-8s %-8s %-10s %-12s %-14s %s%n", "#", "Skill var.", "Missing", "Game",
+                "Full roles", "Ideal comp.", "Total skill", "Found with");
+        System.out.printf("%-3s %-14s %-8s %-8s %-10s %-12s %-14s%n", "", "", "roles", "overlap", "teams", "", "range");
+        System.out.println("─".repeat(100));
+        for (int i = 0; i < options.size(); i++) {
+            FormationOption option = options.get(i);
+            Map<String, Object> analysis = option.getAnalysis();
+            System.out.printf("%-3d %-14.2f %-8d %-8d %-10s %-12s %-14s %s%n", i + 1,
+                    option.getScore().getSkillVariance(),
+                    option.getScore().getMissingRoles(),
+                    option.getScore().getGameOverlap(),
+                    analysis.get("teams_with_full_role_coverage"),
+                    analysis.get("ideal_composition_percentage"),
+                    analysis.get("team_total_skill_range"),
+                    option.getLabel());
+        }
+        System.out.println("─".repeat(100));
+
+        System.out.print("Choose a formation (1-" + options.size() + ") [1]: ");
+        String input = scanner.nextLine().trim();
+        int choice = 0;
+        if (!input.isEmpty()) {
+            try {
+                choice = Integer.parseInt(input) - 1;
+            } catch (NumberFormatException e) {
+                choice = -1;
+            }
+            if (choice < 0 || choice >= options.size()) {
+                System.out.println("⚠️  Unknown option, using formation 1");
+                choice = 0;
+            }
+        }
+        return teamBuilder.useFormation(options.get(choice));
+    }
+
     private static void viewTeams() {
-        if (teams.isEmpty()) {
+        if (event.getTeams().isEmpty()) {
             System.out.println("❌ No teams formed yet. Please form teams first.");
             return;
         }
@@ -502,24 +802,40 @@ public class Main {
         System.out.println("                           FORMED TEAMS");
         System.out.println("═".repeat(80));
 
-        for (Team team : teams) {
+        for (Team team : event.getTeams()) {
             System.out.println(team.toDetailedString());
             System.out.println("─".repeat(80));
         }
 
-        System.out.println("Total teams: " + teams.size());
+        System.out.println("Total teams: " + event.getTeams().size());
     }
 
     private static void saveTeamsToFormedFile() {
-        if (teams.isEmpty()) {
+        if (event.getTeams().isEmpty()) {
             System.out.println("❌ No teams to save. Please form teams first.");
             return;
         }
 
+        System.out.println("Export format:");
+        TeamExportFormat[] formats = TeamExportFormat.values();
+        for (int i = 0; i < formats.length; i++) {
+            System.out.println("  " + (i + 1) + ". " + formats[i].getDisplayName());
+        }
+        System.out.print("Choose a format (1-" + formats.length + ") [1]: ");
+        TeamExportFormat format = TeamExportFormat.CSV;
+        String formatInput = scanner.nextLine().trim();
+        if (!formatInput.isEmpty()) {
+            try {
+                format = formats[Integer.parseInt(formatInput) - 1];
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                System.out.println("⚠️  Unknown format, using " + format.getDisplayName());
+            }
+        }
+
         try {
-            // Save to formed_teams directory with timestamp
-            fileHandler.saveFormedTeams(teams);
-            System.out.println("✅ Teams saved to formed_teams directory!");
+            // Save to formed_teams file with timestamp
+            fileHandler.saveFormedTeams(event.getTeams(), format);
+            System.out.println("✅ Teams saved to formed_teams file!");
 
         } catch (FileProcessingException e) {
             System.out.println("❌ Error saving teams: " + e.getMessage());
@@ -529,7 +845,7 @@ public class Main {
     private static void checkForNewSurveyPlayers() {
         try {
             // Check the default players.csv file
-            String defaultPlayersFile = "players.csv";
+            String defaultPlayersFile = event.getSurveyFile().toString();
 
             if (!fileHandler.isFileAccessible(defaultPlayersFile)) {
                 System.out.println("❌ No players.csv file found in the root directory.");
@@ -537,8 +853,20 @@ public class Main {
                 return;
             }
 
-            List<Participant> allSurveyPlayers = fileHandler.loadPlayersFromCSV(defaultPlayersFile);
-            List<Participant> newPlayers = fileHandler.getNewPlayers(allSurveyPlayers, participants);
+            // Only rows appended since the last check are parsed; the watcher has usually read them already
+            SurveyFileWatcher surveyWatcher = event.getSurveyWatcher();
+            surveyWatcher.poll();
+            List<Participant> appended = new java.util.ArrayList<>();
+            surveyWatcher.drainNewParticipants(appended);
+            event.addPendingSurveyPlayers(appended);
+
+            List<Participant> newPlayers = fileHandler.getNewPlayers(
+                    new java.util.ArrayList<>(event.getPendingSurveyPlayers()), event.getParticipants());
+            // Drop anything that has been imported since it was first seen
+            if (event.retainPendingSurveyPlayers(newPlayers) == 0) {
+                // Every drained row is in the roster now, so a restart may safely resume after them
+                surveyWatcher.commitCheckpoint();
+            }
 
             if (newPlayers.isEmpty()) {
                 System.out.println("✅ All survey players are already imported in the system.");
@@ -557,22 +885,67 @@ public class Main {
                 }
             }
 
-        } catch (FileProcessingException e) {
+        } catch (java.io.IOException e) {
             System.out.println("❌ Error checking for new players: " + e.getMessage());
         }
     }
 
+    // Brings back teams saved earlier (e.g. before a restart) instead of forming them again
+    private static void loadTeamsFromFormedFile() {
+        if (event.getParticipants().isEmpty()) {
+            System.out.println("❌ No participants loaded in the system.");
+            System.out.println("💡 Import the players the teams were formed from first (option 1).");
+            return;
+        }
+
+        String latest = null;
+        try (java.util.stream.Stream<java.nio.file.Path> stream = java.nio.file.Files.list(event.getDirectory().toAbsolutePath())) {
+            latest = stream.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("formed_teams_"))
+                    .max(String::compareTo)
+                    .map(name -> event.getDirectory().resolve(name).toString())
+                    .orElse(null);
+        } catch (java.io.IOException e) {
+            // No listing, the organizer can still type a path
+        }
+
+        System.out.print("Enter the formed teams file path" + (latest != null ? " [" + latest + "]" : "") + ": ");
+        String filePath = scanner.nextLine().trim();
+        if (filePath.isEmpty()) {
+            if (latest == null) {
+                System.out.println("❌ No formed teams file found.");
+                return;
+            }
+            filePath = latest;
+        }
+
+        try {
+            event.setTeams(fileHandler.loadFormedTeams(filePath, event.getParticipants()));
+            saveSessionSnapshot();
+            System.out.println("✅ Loaded " + event.getTeams().size() + " teams. Use option 4 to view them.");
+        } catch (FileProcessingException e) {
+            System.out.println("❌ Error loading teams: " + e.getMessage());
+        }
+    }
+
     private static void showTeamAnalysis() {
-        if (teams.isEmpty()) {
+        if (event.getTeams().isEmpty()) {
             System.out.println("❌ No teams formed yet. Please form teams first.");
             return;
         }
 
         try {
-            System.out.println("🔍 Analyzing " + teams.size() + " teams...");
-
-            TeamBuilder teamBuilder = new TeamBuilder(teams.get(0).getSize(), participants);
-            Map<String, Object> analysis = teamBuilder.analyzeTeamFormation(teams);
+            System.out.println("🔍 Analyzing " + event.getTeams().size() + " teams...");
+
+            // Reuse the analysis of these exact teams (e.g. restored from the session snapshot)
+            List<Team> teams = event.getTeams();
+            Map<String, Object> analysis = event.getAnalysis();
+            if (analysis == null) {
+                TeamBuilder teamBuilder = new TeamBuilder(teams.get(0).getSize(), event.getParticipants());
+                analysis = teamBuilder.analyzeTeamFormation(teams);
+                event.setAnalysis(teams, analysis);
+                saveSessionSnapshot();
+            }
 
             System.out.println("\n" + "📊 TEAM FORMATION ANALYSIS");
             System.out.println("─".repeat(50));
@@ -593,18 +966,18 @@ public class Main {
             System.out.println("\n🎯 TEAM INSIGHTS");
             System.out.println("─".repeat(50));
 
-            double totalSkill = teams.stream().mapToDouble(Team::getAverageSkill).sum();
-            double avgSkill = totalSkill / teams.size();
+            double totalSkill = event.getTeams().stream().mapToDouble(Team::getAverageSkill).sum();
+            double avgSkill = totalSkill / event.getTeams().size();
             System.out.printf("%-30s: %.2f%n", "Overall average team skill", avgSkill);
 
-            int teamsWithLeaders = (int) teams.stream().filter(Team::hasLeader).count();
+            int teamsWithLeaders = (int) event.getTeams().stream().filter(Team::hasLeader).count();
             System.out.printf("%-30s: %d/%d (%.1f%%)%n", "Teams with natural leaders",
-                    teamsWithLeaders, teams.size(), (teamsWithLeaders * 100.0) / teams.size());
+                    teamsWithLeaders, event.getTeams().size(), (teamsWithLeaders * 100.0) / event.getTeams().size());
 
             // Show team compositions
             System.out.println("\n👥 TEAM COMPOSITIONS");
             System.out.println("─".repeat(50));
-            for (Team team : teams) {
+            for (Team team : event.getTeams()) {
                 long leaders = team.getMembers().stream()
                         .filter(p -> p.getPersonalityType() == PersonalityType.LEADER).count();
                 long thinkers = team.getMembers().stream()
@@ -626,7 +999,7 @@ public class Main {
         String userEmail = userManager.getCurrentUserEmail();
 
         // First check in loaded participants (only if imported by organizer)
-        Participant myProfile = participants.stream()
+        Participant myProfile = event.getParticipants().stream()
                 .filter(p -> p.getEmail().equals(userEmail))
                 .findFirst()
                 .orElse(null);
@@ -634,7 +1007,7 @@ public class Main {
         if (myProfile == null) {
             // If not in loaded participants, check survey players in file
             try {
-                List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV("players.csv");
+                List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV(event.getSurveyFile().toString());
                 myProfile = surveyPlayers.stream()
                         .filter(p -> p.getEmail().equals(userEmail))
                         .findFirst()
@@ -655,17 +1028,14 @@ public class Main {
             System.out.println("Preferred Role: " + myProfile.getPreferredRole());
             System.out.println("Personality: " + myProfile.getPersonalityType() + " (" + myProfile.getPersonalityScore() + "/100)");
 
-            // Show which team you're in (only if organizer has formed teams)
-            Team myTeam = teams.stream()
-                    .filter(team -> team.getMembers().stream()
-                            .anyMatch(p -> p.getEmail().equals(userEmail)))
-                    .findFirst()
-                    .orElse(null);
+            // Show which team you're in (only if organizer has formed teams); the login email is
+            // unique, whereas the profile's ID may collide with another roster entry
+            Team myTeam = event.getTeamIndex().teamOfEmail(userEmail);
 
             if (myTeam != null) {
                 System.out.println("\n🏆 YOUR TEAM: " + myTeam.getTeamName());
                 System.out.println("Team Members:");
-                myTeam.getMembers().forEach(member ->
+                myTeam.getMembersView().forEach(member ->
                         System.out.println("  • " + member.getName() + " - " + member.getPreferredRole()));
             } else {
                 System.out.println("\nℹ️  You are not currently assigned to a team.");
@@ -688,7 +1058,7 @@ public class Main {
         Participant existingParticipant = null;
 
         try {
-            List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV("players.csv");
+            List<Participant> surveyPlayers = fileHandler.loadPlayersFromCSV(event.getSurveyFile().toString());
             existingParticipant = surveyPlayers.stream()
                     .filter(p -> p.getEmail().equals(userEmail))
                     .findFirst()
@@ -861,16 +1231,9 @@ public class Main {
                         com.teammate.models.PersonalityType.fromScore(personalityScore) + ")");
             }
 
-            // Create updated participant with SAME ID
-            Participant updatedParticipant = new Participant(
-                    existingParticipant.getParticipantId(), // Keep the same ID
-                    userName,
-                    userEmail,
-                    gameInterest,
-                    skillLevel,
-                    role,
-                    personalityScore
-            );
+            // Updated copy with the SAME ID (participants are immutable); every field may change, so build it once
+            Participant updatedParticipant = new Participant(existingParticipant.getParticipantId(), userName,
+                    userEmail, gameInterest, skillLevel, role, personalityScore);
 
             // Validate the updated data
             List<String> errors = ValidationService.validateParticipantData(updatedParticipant);
@@ -901,7 +1264,7 @@ public class Main {
     // 🎯 HELPER METHOD TO UPDATE PLAYER IN FILE
     private static void updatePlayerInFile(Participant updatedParticipant) {
         try {
-            String playersFile = "players.csv";
+            String playersFile = event.getSurveyFile().toString();
 
             // Check if file exists
             if (!java.nio.file.Files.exists(java.nio.file.Paths.get(playersFile))) {
@@ -0,0 +1,371 @@
+package com.teammate;
+
+import com.teammate.auth.CredentialManager;
+import com.teammate.metrics.FileIoEvent;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
+import com.teammate.models.GameRole;
+import com.teammate.models.LazyText;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.services.ValidationService;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+// The whole state of one event in a single file, so a restart (after a crash or a deploy) picks up
+// where the organizer left off instead of re-importing and re-forming:
+//   header (24 bytes): int magic "TMSS", short version, short reserved, long payloadLength,
+//                      int CRC32C of the payload, int reserved
+//   payload: int nextParticipantNumber,
+//            int participantCount, participantCount x participant
+//            int teamCount, per team: text id, text name, int memberCount, memberCount x int roster position
+//            int playerCount, per registered player: text username, password, email, name
+//            int analysisEntries (-1 = none), per entry: text key, byte type, value
+//            int pendingCount, pendingCount x participant (survey players not yet imported)
+//   participant = text id, text name, text email,
+//                 byte game (index into VALID_GAMES, -1 = text game follows), int skill, byte role, byte score
+//   text = int byteLength + UTF-8 bytes
+//
+// Saving writes a sibling ".tmp" file, fsyncs it and renames it over the old snapshot with
+// ATOMIC_MOVE, so a crash leaves either the previous snapshot or the new one, never half of one.
+// Restoring reads the file into one heap buffer through its channel and verifies the checksum; names
+// and emails stay in that buffer as LazyText until shown. Nothing keeps the file open or mapped
+// afterwards, so the next save can rename over it on every platform (Windows refuses to replace a
+// file that is still mapped). Any damage that slips past the checksum surfaces as an IOException.
+public final class SessionSnapshot {
+    public static final String DEFAULT_FILE = "session.snapshot";
+    static final int MAGIC = 0x544D5353; // "TMSS"
+    static final short VERSION = 3;
+    static final int HEADER_SIZE = 24;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final byte VALUE_INT = 0;
+    private static final byte VALUE_LONG = 1;
+    private static final byte VALUE_DOUBLE = 2;
+    private static final byte VALUE_BOOLEAN = 3;
+    private static final byte VALUE_TEXT = 4;
+
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.histogram(
+            "teammate_snapshot_save_seconds", "Time to write a session snapshot");
+    private static final LatencyHistogram RESTORE_LATENCY = MetricsRegistry.histogram(
+            "teammate_snapshot_restore_seconds", "Time to restore a session snapshot");
+
+    private SessionSnapshot() {
+    }
+
+    public static void save(EventContext event, Path file) throws IOException {
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(file.toString(), "write");
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<Participant> roster = event.getParticipants();
+        long size;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            CRC32C crc = new CRC32C();
+            // Not closed: that would close the channel before the header is written
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_SIZE));
+            writePayload(out, event, roster);
+            out.flush();
+
+            size = channel.position();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                    .putLong(size - HEADER_SIZE).putInt((int) crc.getValue()).putInt(0).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // Persist the rename too; not every platform lets a directory be opened for this
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+
+        ioEvent.finish(size, roster.size(), 0);
+        SAVE_LATENCY.recordSince(timer);
+    }
+
+    private static void writePayload(DataOutputStream out, EventContext event, List<Participant> roster)
+            throws IOException {
+        out.writeInt(event.getIds().getNextParticipantNumber());
+
+        Map<String, Integer> positions = new HashMap<>(Math.max(16, roster.size() * 4 / 3 + 1));
+        out.writeInt(roster.size());
+        for (int i = 0; i < roster.size(); i++) {
+            Participant p = roster.get(i);
+            positions.put(p.getParticipantId(), i);
+            writeParticipant(out, p);
+        }
+
+        List<Team> teams = event.getTeams();
+        out.writeInt(teams.size());
+        for (Team team : teams) {
+            List<Participant> members = team.getMembersView();
+            writeText(out, team.getTeamId());
+            writeText(out, team.getTeamName());
+            out.writeInt(members.size());
+            for (Participant member : members) {
+                Integer position = positions.get(member.getParticipantId());
+                if (position == null) {
+                    throw new IOException("Team " + team.getTeamId() + " has " + member.getParticipantId()
+                            + ", who is not in the roster");
+                }
+                out.writeInt(position);
+            }
+        }
+
+        List<CredentialManager.PlayerRecord> players = event.getCredentials().getPlayerRecords();
+        out.writeInt(players.size());
+        for (CredentialManager.PlayerRecord player : players) {
+            writeText(out, player.getUsername());
+            writeText(out, player.getPassword());
+            writeText(out, player.getEmail());
+            writeText(out, player.getName());
+        }
+
+        Map<String, Object> analysis = event.getAnalysis();
+        out.writeInt(analysis == null ? -1 : analysis.size());
+        if (analysis != null) {
+            for (Map.Entry<String, Object> entry : analysis.entrySet()) {
+                writeText(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        }
+
+        List<Participant> pending = event.getPendingSurveyPlayers();
+        out.writeInt(pending.size());
+        for (Participant p : pending) {
+            writeParticipant(out, p);
+        }
+    }
+
+    private static void writeParticipant(DataOutputStream out, Participant p) throws IOException {
+        writeText(out, p.getParticipantId());
+        writeText(out, p.getName());
+        writeText(out, p.getEmail());
+        int game = ValidationService.VALID_GAMES.indexOf(p.getGameInterest());
+        out.writeByte(game);
+        if (game < 0) {
+            writeText(out, p.getGameInterest());
+        }
+        out.writeInt(p.getSkillLevel());
+        out.writeByte(p.getPreferredRole().ordinal());
+        out.writeByte(p.getPersonalityScore());
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Integer) {
+            out.writeByte(VALUE_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            out.writeByte(VALUE_TEXT);
+            writeText(out, String.valueOf(value));
+        }
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Loads a snapshot into an event that has nothing imported yet. Credentials are only taken from
+    // the snapshot when the event has no credentials file, and ID counters only ever move forward.
+    public static void restore(EventContext event, Path file) throws IOException {
+        if (!event.getParticipants().isEmpty() || !event.getTeams().isEmpty()) {
+            throw new IllegalStateException("A snapshot can only be restored into an empty event");
+        }
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(file.toString(), "read");
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE - 8) {
+                ioEvent.finish(0, 0, 1);
+                throw new IOException("Not a usable session snapshot (" + size + " bytes): " + file);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends early
+            }
+            buffer.flip();
+        }
+
+        try {
+            ByteBuffer in = buffer.duplicate();
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a TeamMate session snapshot: " + file);
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session snapshot version " + version + ": " + file);
+            }
+            in.getShort();
+            long payloadLength = in.getLong();
+            int checksum = in.getInt();
+            if (payloadLength != buffer.limit() - HEADER_SIZE) {
+                throw new IOException("Session snapshot is truncated: " + file);
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_SIZE, (int) payloadLength));
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Session snapshot checksum mismatch: " + file);
+            }
+            in.position(HEADER_SIZE);
+            apply(event, in, buffer);
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
+            throw e;
+        } catch (RuntimeException e) {
+            // Underflow, an out-of-range index or a rejected value: the payload is damaged
+            ioEvent.finish(0, 0, 1);
+            throw new IOException("Corrupt session snapshot " + file + ": " + e, e);
+        }
+
+        ioEvent.finish(buffer.limit(), event.getParticipants().size(), 0);
+        RESTORE_LATENCY.recordSince(timer);
+    }
+
+    // Reads the whole payload before touching the event, so a damaged snapshot changes nothing
+    private static void apply(EventContext event, ByteBuffer in, ByteBuffer buffer) throws IOException {
+        int nextParticipantNumber = in.getInt();
+
+        Participant[] roster = new Participant[count(in)];
+        for (int i = 0; i < roster.length; i++) {
+            roster[i] = readParticipant(in, buffer);
+        }
+
+        int teamCount = count(in);
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int t = 0; t < teamCount; t++) {
+            Team team = new Team(readText(in), readText(in));
+            for (int m = in.getInt(); m > 0; m--) {
+                team.addMember(roster[in.getInt()]);
+            }
+            teams.add(team);
+        }
+
+        List<CredentialManager.PlayerRecord> players = new ArrayList<>();
+        for (int p = in.getInt(); p > 0; p--) {
+            players.add(new CredentialManager.PlayerRecord(readText(in), readText(in), readText(in), readText(in)));
+        }
+
+        Map<String, Object> analysis = null;
+        int entries = in.getInt();
+        if (entries >= 0) {
+            analysis = new LinkedHashMap<>();
+            for (int e = 0; e < entries; e++) {
+                analysis.put(readText(in), readValue(in));
+            }
+        }
+
+        int pendingCount = count(in);
+        List<Participant> pending = new ArrayList<>(pendingCount);
+        for (int p = 0; p < pendingCount; p++) {
+            pending.add(readParticipant(in, buffer));
+        }
+
+        event.addParticipants(List.of(roster));
+        event.getIds().restore(nextParticipantNumber);
+        event.setTeams(teams);
+        if (analysis != null) {
+            event.setAnalysis(event.getTeams(), analysis);
+        }
+        event.getCredentials().restorePlayers(players);
+        event.addPendingSurveyPlayers(pending);
+    }
+
+    private static Participant readParticipant(ByteBuffer in, ByteBuffer buffer) throws IOException {
+        String id = readText(in);
+        LazyText name = lazyText(in, buffer);
+        LazyText email = lazyText(in, buffer);
+        int game = in.get();
+        String gameInterest = game >= 0 ? ValidationService.VALID_GAMES.get(game) : readText(in);
+        int skill = in.getInt();
+        GameRole role = GameRole.values()[in.get()];
+        int score = in.get() & 0xff;
+        return Participant.projected(id, name, email, gameInterest, skill, role, score);
+    }
+
+    // A count is never negative and each counted item takes at least one byte
+    private static int count(ByteBuffer in) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Corrupt session snapshot: count " + count + " at offset " + (in.position() - 4));
+        }
+        return count;
+    }
+
+    private static Object readValue(ByteBuffer in) throws IOException {
+        byte type = in.get();
+        switch (type) {
+            case VALUE_INT: return in.getInt();
+            case VALUE_LONG: return in.getLong();
+            case VALUE_DOUBLE: return in.getDouble();
+            case VALUE_BOOLEAN: return in.get() != 0;
+            case VALUE_TEXT: return readText(in);
+            default: throw new IllegalArgumentException("Unknown analysis value type " + type);
+        }
+    }
+
+    private static String readText(ByteBuffer in) throws IOException {
+        int length = textLength(in);
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Points into the read buffer instead of decoding
+    private static LazyText lazyText(ByteBuffer in, ByteBuffer buffer) throws IOException {
+        int length = textLength(in);
+        LazyText text = new LazyText(buffer, in.position(), length);
+        in.position(in.position() + length);
+        return text;
+    }
+
+    private static int textLength(ByteBuffer in) throws IOException {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Corrupt session snapshot: text length " + length + " at offset " + (in.position() - 4));
+        }
+        return length;
+    }
+}
@@ -1,18 +1,48 @@
 package com.teammate.auth;
 
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.CredentialSaveEvent;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
+
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class CredentialManager {
-    private static final String PLAYERS_FILE = "player_credentials.csv";
+    public static final String DEFAULT_FILE = "player_credentials.csv";
+    private static final LatencyHistogram REGISTER_LATENCY = MetricsRegistry.histogram(
+            "teammate_auth_register_seconds", "Time to register a player, including the credentials file rewrite");
+    private static final LatencyHistogram AUTHENTICATE_LATENCY = MetricsRegistry.histogram(
+            "teammate_auth_authenticate_seconds", "Time to check a player login");
+    private static final Counter REGISTRATIONS_ACCEPTED = MetricsRegistry.counter(
+            "teammate_auth_registrations_total", "Player registration attempts", "result", "accepted");
+    private static final Counter REGISTRATIONS_REJECTED = MetricsRegistry.counter(
+            "teammate_auth_registrations_total", "Player registration attempts", "result", "rejected");
+    private static final Counter LOGINS_SUCCEEDED = MetricsRegistry.counter(
+            "teammate_auth_logins_total", "Player login attempts", "result", "success");
+    private static final Counter LOGINS_FAILED = MetricsRegistry.counter(
+            "teammate_auth_logins_total", "Player login attempts", "result", "failure");
     private Map<String, String> playerPasswords; // username -> password
     private Map<String, String> playerEmails;    // username -> email
     private Map<String, String> playerNames;     // username -> display name
+    private final Path credentialsFile;
 
     public CredentialManager() {
+        this(Paths.get(DEFAULT_FILE));
+    }
+
+    // One credential store per event; the file is created on the first registration
+    public CredentialManager(Path credentialsFile) {
+        this.credentialsFile = credentialsFile;
         playerPasswords = new HashMap<>();
         playerEmails = new HashMap<>();
         playerNames = new HashMap<>();
@@ -22,12 +52,12 @@ public class CredentialManager {
     // 🎯 SIMPLE FILE LOADING FOR PLAYERS
     private void loadPlayers() {
         try {
-            if (!Files.exists(Paths.get(PLAYERS_FILE))) {
+            if (!Files.exists(credentialsFile)) {
                 System.out.println("📝 No existing player data found. Starting fresh.");
                 return;
             }
 
-            BufferedReader reader = new BufferedReader(new FileReader(PLAYERS_FILE));
+            BufferedReader reader = new BufferedReader(new FileReader(credentialsFile.toFile()));
             String line;
             boolean firstLine = true;
 
@@ -58,8 +88,9 @@ public class CredentialManager {
 
     // 🎯 SAVE PLAYER CREDENTIALS TO CSV
     private void savePlayers() {
+        CredentialSaveEvent saveEvent = CredentialSaveEvent.start(credentialsFile.toString());
         try {
-            PrintWriter writer = new PrintWriter(new FileWriter(PLAYERS_FILE));
+            PrintWriter writer = new PrintWriter(new FileWriter(credentialsFile.toFile()));
 
             // Write header
             writer.println("Username,Password,Email,Name");
@@ -74,13 +105,19 @@ public class CredentialManager {
             }
             writer.close();
 
+            saveEvent.finish(playerPasswords.size(), true);
             System.out.println("✅ Saved " + playerPasswords.size() + " players to file.");
 
         } catch (IOException e) {
+            saveEvent.finish(playerPasswords.size(), false);
             System.out.println("❌ Error saving players: " + e.getMessage());
         }
     }
 
+    public Path getCredentialsFile() {
+        return credentialsFile;
+    }
+
     // 🎯 ORGANIZER LOGIN (HARDCODED - SIMPLE!)
     public boolean authenticateOrganizer(String username, String password) {
         return "admin".equals(username) && "admin123".equals(password);
@@ -88,14 +125,17 @@ public class CredentialManager {
 
     // 🎯 PLAYER REGISTRATION
     public boolean registerPlayer(String username, String password, String email, String name) {
+        long timer = MetricsRegistry.startTimer();
         if (playerPasswords.containsKey(username)) {
             System.out.println("❌ Username already exists!");
+            REGISTRATIONS_REJECTED.increment();
             return false;
         }
 
         // Check if email already registered
         if (playerEmails.containsValue(email)) {
             System.out.println("❌ Email already registered!");
+            REGISTRATIONS_REJECTED.increment();
             return false;
         }
 
@@ -104,18 +144,25 @@ public class CredentialManager {
         playerNames.put(username, name);
 
         savePlayers();
+        REGISTER_LATENCY.recordSince(timer);
+        REGISTRATIONS_ACCEPTED.increment();
         System.out.println("✅ Player registered successfully: " + username);
         return true;
     }
 
     // 🎯 PLAYER LOGIN
     public boolean authenticatePlayer(String username, String password) {
-        if (!playerPasswords.containsKey(username)) {
-            return false; // Username doesn't exist
-        }
-
+        long timer = MetricsRegistry.startTimer();
         String storedPassword = playerPasswords.get(username);
-        return storedPassword.equals(password);
+        boolean authenticated = storedPassword != null && storedPassword.equals(password);
+
+        AUTHENTICATE_LATENCY.recordSince(timer);
+        if (authenticated) {
+            LOGINS_SUCCEEDED.increment();
+        } else {
+            LOGINS_FAILED.increment();
+        }
+        return authenticated;
     }
 
     // 🎯 GET PLAYER INFO
@@ -150,4 +197,57 @@ public class CredentialManager {
     public int getPlayerCount() {
         return playerPasswords.size();
     }
+
+    // One registered player, as stored in the credentials file
+    public static final class PlayerRecord {
+        private final String username;
+        private final String password;
+        private final String email;
+        private final String name;
+
+        public PlayerRecord(String username, String password, String email, String name) {
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.name = name;
+        }
+
+        public String getUsername() { return username; }
+        public String getPassword() { return password; }
+        public String getEmail() { return email; }
+        public String getName() { return name; }
+    }
+
+    public List<PlayerRecord> getPlayerRecords() {
+        List<PlayerRecord> records = new ArrayList<>(playerPasswords.size());
+        for (Map.Entry<String, String> entry : playerPasswords.entrySet()) {
+            String username = entry.getKey();
+            records.add(new PlayerRecord(username, entry.getValue(), playerEmails.get(username), playerNames.get(username)));
+        }
+        return records;
+    }
+
+    // Takes players from a session snapshot only when there is no credentials file. An existing file
+    // is authoritative: accounts missing from it were removed on purpose (by hand, or by restoring a
+    // backup) and must not come back from an older snapshot. Returns how many were added.
+    public int restorePlayers(Collection<PlayerRecord> records) {
+        if (Files.exists(credentialsFile)) {
+            return 0;
+        }
+        int added = 0;
+        Set<String> emails = new HashSet<>(playerEmails.values()); // one pass instead of containsValue per record
+        for (PlayerRecord record : records) {
+            if (playerPasswords.containsKey(record.getUsername()) || !emails.add(record.getEmail())) {
+                continue;
+            }
+            playerPasswords.put(record.getUsername(), record.getPassword());
+            playerEmails.put(record.getUsername(), record.getEmail());
+            playerNames.put(record.getUsername(), record.getName());
+            added++;
+        }
+        if (added > 0) {
+            savePlayers();
+        }
+        return added;
+    }
 }
\ No newline at end of file
@@ -12,7 +12,12 @@ public class UserManager {
     private String currentUsername; // For players
 
     public UserManager() {
-        this.credentialManager = new CredentialManager();
+        this(new CredentialManager());
+    }
+
+    // Sessions for one event share that event's credential store
+    public UserManager(CredentialManager credentialManager) {
+        this.credentialManager = credentialManager;
     }
 
     public boolean organizerLogin(Scanner scanner) {
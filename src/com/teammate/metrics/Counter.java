@@ -0,0 +1,37 @@
+package com.teammate.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Monotonic counter; increments are dropped while metrics are disabled
+public class Counter extends Metric {
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help, String labelName, String labelValue) {
+        super(name, help, labelName, labelValue);
+    }
+
+    public void increment() {
+        if (MetricsRegistry.isEnabled()) {
+            value.increment();
+        }
+    }
+
+    public void add(long amount) {
+        if (MetricsRegistry.isEnabled()) {
+            value.add(amount);
+        }
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    void reset() {
+        value.reset();
+    }
+
+    @Override
+    public String getType() {
+        return "counter";
+    }
+}
@@ -0,0 +1,45 @@
+package com.teammate.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// JFR event for a full rewrite of the player credentials file
+@Name("com.teammate.CredentialSave")
+@Label("Credential File Save")
+@Category({"TeamMate", "I/O"})
+@Description("CredentialManager rewriting the player credentials file")
+public class CredentialSaveEvent extends Event {
+    @Label("Path")
+    String path;
+
+    @Label("Players")
+    int players;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public static CredentialSaveEvent start(String path) {
+        CredentialSaveEvent event = new CredentialSaveEvent();
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int players, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.players = players;
+            this.succeeded = succeeded;
+            this.bytes = FileIoEvent.sizeOf(path);
+            commit();
+        }
+    }
+}
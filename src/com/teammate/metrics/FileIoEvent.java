@@ -0,0 +1,62 @@
+package com.teammate.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// JFR event for one FileHandler read or write of a CSV file
+@Name("com.teammate.FileIO")
+@Label("TeamMate File I/O")
+@Category({"TeamMate", "I/O"})
+@Description("A participant or team file read or written by FileHandler")
+public class FileIoEvent extends Event {
+    @Label("Path")
+    String path;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Errors")
+    long errors;
+
+    public static FileIoEvent start(String path, String operation) {
+        FileIoEvent event = new FileIoEvent();
+        event.path = path;
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    // Pass bytes < 0 to have the file size looked up, only when the event is actually recorded
+    public void finish(long bytes, long rows, long errors) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes >= 0 ? bytes : sizeOf(path);
+            this.rows = rows;
+            this.errors = errors;
+            commit();
+        }
+    }
+
+    static long sizeOf(String path) {
+        try {
+            return Files.size(Paths.get(path));
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
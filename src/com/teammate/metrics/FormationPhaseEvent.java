@@ -0,0 +1,39 @@
+package com.teammate.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// JFR event covering one phase of TeamBuilder formation (leaders, thinkers, balanced, fill)
+@Name("com.teammate.FormationPhase")
+@Label("Team Formation Phase")
+@Category({"TeamMate", "Formation"})
+@Description("One phase of TeamBuilder team formation")
+public class FormationPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Teams")
+    int teams;
+
+    @Label("Participants Placed")
+    int participantsPlaced;
+
+    public static FormationPhaseEvent start(String phase) {
+        FormationPhaseEvent event = new FormationPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int teams, int participantsPlaced) {
+        end();
+        if (shouldCommit()) {
+            this.teams = teams;
+            this.participantsPlaced = participantsPlaced;
+            commit();
+        }
+    }
+}
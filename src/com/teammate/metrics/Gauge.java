@@ -0,0 +1,22 @@
+package com.teammate.metrics;
+
+import java.util.function.LongSupplier;
+
+// Point-in-time value, read from its source only when metrics are exported
+public class Gauge extends Metric {
+    private final LongSupplier source;
+
+    Gauge(String name, String help, String labelName, String labelValue, LongSupplier source) {
+        super(name, help, labelName, labelValue);
+        this.source = source;
+    }
+
+    public long get() {
+        return source.getAsLong();
+    }
+
+    @Override
+    public String getType() {
+        return "gauge";
+    }
+}
@@ -0,0 +1,96 @@
+package com.teammate.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free latency histogram with power-of-two nanosecond buckets.
+// Bucket i counts samples in (2^(i-1), 2^i] ns; recording is a few atomic adds, no locks.
+public class LatencyHistogram extends Metric {
+    // 2^10 ns (~1 us) up to 2^36 ns (~69 s); everything outside is clamped into the end buckets
+    static final int MIN_BUCKET = 10;
+    static final int MAX_BUCKET = 36;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(MAX_BUCKET + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    LatencyHistogram(String name, String help, String labelName, String labelValue) {
+        super(name, help, labelName, labelValue);
+    }
+
+    // Records the time elapsed since a MetricsRegistry.startTimer() value
+    public void recordSince(long startNanos) {
+        if (startNanos != 0L && MetricsRegistry.isEnabled()) {
+            recordNanos(System.nanoTime() - startNanos);
+        }
+    }
+
+    public void recordNanos(long nanos) {
+        if (!MetricsRegistry.isEnabled()) {
+            return;
+        }
+        long sample = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketFor(sample));
+        count.increment();
+        totalNanos.add(sample);
+
+        long currentMax = maxNanos.get();
+        while (sample > currentMax && !maxNanos.compareAndSet(currentMax, sample)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    static int bucketFor(long nanos) {
+        int bucket = nanos <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(nanos - 1);
+        return Math.max(MIN_BUCKET, Math.min(MAX_BUCKET, bucket));
+    }
+
+    // Upper bound of a bucket in seconds (the Prometheus "le" value)
+    static double upperBoundSeconds(int bucket) {
+        return (1L << bucket) / 1_000_000_000.0;
+    }
+
+    long bucketCount(int bucket) {
+        return buckets.get(bucket);
+    }
+
+    public long getCount() { return count.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    // Approximate percentile (upper bucket bound), e.g. 0.99 for p99
+    public long percentileNanos(double quantile) {
+        long total = 0;
+        for (int i = MIN_BUCKET; i <= MAX_BUCKET; i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = MIN_BUCKET; i <= MAX_BUCKET; i++) {
+            seen += buckets.get(i);
+            if (seen >= threshold) {
+                return Math.min(1L << i, getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+    }
+
+    @Override
+    public String getType() {
+        return "histogram";
+    }
+}
@@ -0,0 +1,33 @@
+package com.teammate.metrics;
+
+// Common identity of every registered metric: a Prometheus-style name, help text
+// and at most one label (e.g. phase="leaders") to keep the export format simple
+public abstract class Metric {
+    private final String name;
+    private final String help;
+    private final String labelName;
+    private final String labelValue;
+
+    protected Metric(String name, String help, String labelName, String labelValue) {
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.labelValue = labelValue;
+    }
+
+    public String getName() { return name; }
+    public String getHelp() { return help; }
+    public String getLabelName() { return labelName; }
+    public String getLabelValue() { return labelValue; }
+
+    public boolean hasLabel() {
+        return labelName != null;
+    }
+
+    // Prometheus TYPE of this metric
+    public abstract String getType();
+
+    static String key(String name, String labelName, String labelValue) {
+        return labelName == null ? name : name + "{" + labelName + "=" + labelValue + "}";
+    }
+}
@@ -0,0 +1,131 @@
+package com.teammate.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Renders the registry as Prometheus text exposition format or as JSON
+public class MetricsExporter {
+
+    public static String toPrometheus() {
+        StringBuilder sb = new StringBuilder();
+
+        for (List<Metric> family : groupByName(MetricsRegistry.getMetrics()).values()) {
+            Metric first = family.get(0);
+            sb.append("# HELP ").append(first.getName()).append(' ').append(first.getHelp()).append('\n');
+            sb.append("# TYPE ").append(first.getName()).append(' ').append(first.getType()).append('\n');
+
+            for (Metric metric : family) {
+                if (metric instanceof Counter) {
+                    appendSample(sb, metric.getName(), labels(metric, null), ((Counter) metric).get());
+                } else if (metric instanceof Gauge) {
+                    appendSample(sb, metric.getName(), labels(metric, null), ((Gauge) metric).get());
+                } else if (metric instanceof LatencyHistogram) {
+                    appendHistogram(sb, (LatencyHistogram) metric);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"enabled\": ").append(MetricsRegistry.isEnabled()).append(",\n  \"metrics\": [");
+
+        List<Metric> metrics = MetricsRegistry.getMetrics();
+        for (int i = 0; i < metrics.size(); i++) {
+            Metric metric = metrics.get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    {\"name\": ").append(quote(metric.getName()))
+                    .append(", \"type\": ").append(quote(metric.getType()));
+            if (metric.hasLabel()) {
+                sb.append(", \"labels\": {").append(quote(metric.getLabelName())).append(": ")
+                        .append(quote(metric.getLabelValue())).append('}');
+            }
+
+            if (metric instanceof Counter) {
+                sb.append(", \"value\": ").append(((Counter) metric).get());
+            } else if (metric instanceof Gauge) {
+                sb.append(", \"value\": ").append(((Gauge) metric).get());
+            } else if (metric instanceof LatencyHistogram) {
+                LatencyHistogram histogram = (LatencyHistogram) metric;
+                sb.append(", \"count\": ").append(histogram.getCount())
+                        .append(", \"sum_seconds\": ").append(seconds(histogram.getTotalNanos()))
+                        .append(", \"max_seconds\": ").append(seconds(histogram.getMaxNanos()))
+                        .append(", \"p50_seconds\": ").append(seconds(histogram.percentileNanos(0.50)))
+                        .append(", \"p99_seconds\": ").append(seconds(histogram.percentileNanos(0.99)));
+            }
+            sb.append('}');
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    public static void writePrometheus(Path file) throws IOException {
+        Files.writeString(file, toPrometheus(), StandardCharsets.UTF_8);
+    }
+
+    public static void writeJson(Path file) throws IOException {
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+    }
+
+    private static void appendHistogram(StringBuilder sb, LatencyHistogram histogram) {
+        long cumulative = 0;
+        for (int bucket = LatencyHistogram.MIN_BUCKET; bucket <= LatencyHistogram.MAX_BUCKET; bucket++) {
+            cumulative += histogram.bucketCount(bucket);
+            String le = "le=\"" + LatencyHistogram.upperBoundSeconds(bucket) + "\"";
+            appendSample(sb, histogram.getName() + "_bucket", labels(histogram, le), cumulative);
+        }
+        appendSample(sb, histogram.getName() + "_bucket", labels(histogram, "le=\"+Inf\""), histogram.getCount());
+        sb.append(histogram.getName()).append("_sum").append(labels(histogram, null))
+                .append(' ').append(seconds(histogram.getTotalNanos())).append('\n');
+        appendSample(sb, histogram.getName() + "_count", labels(histogram, null), histogram.getCount());
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String labels, long value) {
+        sb.append(name).append(labels).append(' ').append(value).append('\n');
+    }
+
+    private static String labels(Metric metric, String extra) {
+        List<String> parts = new ArrayList<>(2);
+        if (metric.hasLabel()) {
+            parts.add(metric.getLabelName() + "=\"" + metric.getLabelValue() + "\"");
+        }
+        if (extra != null) {
+            parts.add(extra);
+        }
+        return parts.isEmpty() ? "" : "{" + String.join(",", parts) + "}";
+    }
+
+    private static Map<String, List<Metric>> groupByName(List<Metric> metrics) {
+        Map<String, List<Metric>> families = new LinkedHashMap<>();
+        for (Metric metric : metrics) {
+            families.computeIfAbsent(metric.getName(), name -> new ArrayList<>()).add(metric);
+        }
+        return families;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
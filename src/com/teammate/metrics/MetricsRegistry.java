@@ -0,0 +1,80 @@
+package com.teammate.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// Process-wide registry of counters, gauges and latency histograms.
+// Collection is off unless started with -Dteammate.metrics=true or enabled at runtime;
+// while off every record call is a single volatile read.
+public class MetricsRegistry {
+    private static volatile boolean enabled = Boolean.getBoolean("teammate.metrics");
+    private static final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    // Start value for LatencyHistogram.recordSince; 0 means "not timing"
+    public static long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static Counter counter(String name, String help) {
+        return counter(name, help, null, null);
+    }
+
+    public static Counter counter(String name, String help, String labelName, String labelValue) {
+        return register(new Counter(name, help, labelName, labelValue), Counter.class);
+    }
+
+    public static LatencyHistogram histogram(String name, String help) {
+        return histogram(name, help, null, null);
+    }
+
+    public static LatencyHistogram histogram(String name, String help, String labelName, String labelValue) {
+        return register(new LatencyHistogram(name, help, labelName, labelValue), LatencyHistogram.class);
+    }
+
+    public static Gauge gauge(String name, String help, LongSupplier source) {
+        return register(new Gauge(name, help, null, null, source), Gauge.class);
+    }
+
+    // Registering the same name and label twice returns the existing metric
+    private static <T extends Metric> T register(T metric, Class<T> type) {
+        String key = Metric.key(metric.getName(), metric.getLabelName(), metric.getLabelValue());
+        Metric existing = metrics.putIfAbsent(key, metric);
+        if (existing == null) {
+            return metric;
+        }
+        if (!type.isInstance(existing)) {
+            throw new IllegalArgumentException("Metric " + key + " is already registered as a " + existing.getType());
+        }
+        return type.cast(existing);
+    }
+
+    // Snapshot of all metrics sorted by name, for the exporters
+    public static List<Metric> getMetrics() {
+        List<Metric> all = new ArrayList<>(metrics.values());
+        all.sort((a, b) -> Metric.key(a.getName(), a.getLabelName(), a.getLabelValue())
+                .compareTo(Metric.key(b.getName(), b.getLabelName(), b.getLabelValue())));
+        return all;
+    }
+
+    // Clears recorded values but keeps registrations (metrics are held in static fields)
+    public static void reset() {
+        for (Metric metric : metrics.values()) {
+            if (metric instanceof Counter) {
+                ((Counter) metric).reset();
+            } else if (metric instanceof LatencyHistogram) {
+                ((LatencyHistogram) metric).reset();
+            }
+        }
+    }
+}
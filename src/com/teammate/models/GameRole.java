@@ -16,6 +16,27 @@ public enum GameRole {
         return displayName;
     }
 
+    // Mask with every role set; a team's role coverage is the OR of its members' masks
+    public static final int ALL_ROLES_MASK = (1 << values().length) - 1;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    private static final GameRole[] VALUES = values();
+
+    // Case-insensitive valueOf that allocates nothing (no toUpperCase copy, no values() clone)
+    public static GameRole fromName(String name) {
+        if (name != null) {
+            for (GameRole role : VALUES) {
+                if (role.name().equalsIgnoreCase(name)) {
+                    return role;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No GameRole named " + name);
+    }
+
     @Override
     public String toString() {
         return displayName;
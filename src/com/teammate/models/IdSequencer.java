@@ -0,0 +1,88 @@
+package com.teammate.models;
+
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Participant IDs for one event. Each EventContext owns its own sequencer, so several events in one
+// JVM never share or reset each other's counters; IdGenerator is the process-wide default.
+// Team IDs are not sequenced: every formation numbers its teams T1..Tn afresh.
+public class IdSequencer {
+    private static final Counter IDS_GENERATED = MetricsRegistry.counter(
+            "teammate_ids_generated_total", "Participant IDs handed out by the generator");
+
+    private final AtomicInteger participantCounter = new AtomicInteger(1);
+
+    public String nextParticipantId() {
+        IDS_GENERATED.increment();
+        return format(participantCounter.getAndIncrement());
+    }
+
+    // Makes sure later IDs come after this one; safe to call from several threads
+    public void observe(String participantId) {
+        int idNum = parse(participantId);
+        if (idNum > 0) {
+            participantCounter.accumulateAndGet(idNum + 1, Math::max);
+        }
+    }
+
+    // Continues after the highest ID among these participants and the rows of the survey file (if any)
+    public void seed(List<Participant> participants, Path surveyFile) {
+        for (Participant p : participants) {
+            observe(p.getParticipantId());
+        }
+        if (surveyFile != null && Files.exists(surveyFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(surveyFile)) {
+                reader.readLine(); // Skip header
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comma = line.indexOf(',');
+                    observe(comma < 0 ? line.trim() : line.substring(0, comma).trim());
+                }
+            } catch (IOException e) {
+                System.err.println("Error initializing ID counter: " + e.getMessage());
+            }
+        }
+    }
+
+    // The next ID without generating it
+    public String peekNextParticipantId() {
+        return format(participantCounter.get());
+    }
+
+    // Numeric part of the next participant ID
+    public int getNextParticipantNumber() {
+        return participantCounter.get();
+    }
+
+    // Brings the counter up to a saved position (never moves it back)
+    public void restore(int nextParticipantNumber) {
+        participantCounter.accumulateAndGet(nextParticipantNumber, Math::max);
+    }
+
+    public void reset() {
+        participantCounter.set(1);
+    }
+
+    // Numeric part of a "P0042"-style ID, or -1 if it is not one
+    static int parse(String participantId) {
+        if (participantId == null || !participantId.startsWith("P")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(participantId.substring(1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String format(int idNum) {
+        return "P" + String.format("%04d", idNum);
+    }
+}
@@ -0,0 +1,37 @@
+package com.teammate.models;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// UTF-8 text still sitting in a loader's buffer (a heap chunk of a CSV, or the heap copy of a session
+// snapshot). Projected loads and snapshot restores keep names and emails like this and only build a
+// String when one is asked for; the buffer is shared by every row read with it and never modified.
+public final class LazyText {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    public LazyText(ByteBuffer buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+            throw new IndexOutOfBoundsException("Slice " + offset + "+" + length + " outside buffer of " + buffer.capacity());
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        // Absolute bulk get: no position change, so threads can decode from the same buffer at once
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,80 +1,149 @@
 package com.teammate.models;
 
 import com.teammate.services.ValidationService; // Add this import
-import java.util.concurrent.atomic.AtomicInteger;
 
-public class Participant {
-    private static final AtomicInteger idCounter = new AtomicInteger(1);
+import java.util.Objects;
 
-    private String participantId;
+// Immutable value: "changes" return a new instance (withX), so formation workers, analysis and
+// persistence can share the same objects across threads without locks or copies. Equal field values
+// mean equal participants; the hash is computed once, which keeps participants cheap as map/set keys.
+//
+// Participants from a projected load keep name and email as LazyText and decode them on first use.
+// The decoded String is cached in a plain field, like String.hashCode: racing threads may both decode,
+// but they store equal values, so callers cannot tell.
+public final class Participant {
+    private final String participantId;
     private String name;
     private String email;
-    private String gameInterest;
-    private int skillLevel;
-    private GameRole preferredRole;
-    private int personalityScore;
-    private PersonalityType personalityType;
+    private final LazyText lazyName;
+    private final LazyText lazyEmail;
+    private final String gameInterest;
+    private final int skillLevel;
+    private final GameRole preferredRole;
+    private final int personalityScore;
+    private final PersonalityType personalityType;
+    private final int hash;
 
     // Main constructor - AUTO-GENERATES ID
     public Participant(String name, String email, String gameInterest,
                        int skillLevel, GameRole preferredRole, int personalityScore) {
-        this.participantId = IdGenerator.generateParticipantId();
-        this.name = name;
-        this.email = email;
-        // NORMALIZE game interest
-        setGameInterest(gameInterest);
-        this.skillLevel = skillLevel;
-        this.preferredRole = preferredRole;
-        setPersonalityScore(personalityScore);
+        this(IdGenerator.generateParticipantId(), name, email, gameInterest, skillLevel, preferredRole, personalityScore);
     }
 
     // Special constructor for loading existing participants (from CSV)
     public Participant(String participantId, String name, String email, String gameInterest,
                        int skillLevel, GameRole preferredRole, int personalityScore) {
+        this(participantId, name, email, null, null, gameInterest, skillLevel, preferredRole, personalityScore);
+    }
+
+    // Name and email stay undecoded until getName()/getEmail() is called
+    public static Participant projected(String participantId, LazyText name, LazyText email, String gameInterest,
+                                        int skillLevel, GameRole preferredRole, int personalityScore) {
+        return new Participant(participantId, null, null, name, email, gameInterest, skillLevel, preferredRole,
+                personalityScore);
+    }
+
+    private Participant(String participantId, String name, String email, LazyText lazyName, LazyText lazyEmail,
+                        String gameInterest, int skillLevel, GameRole preferredRole, int personalityScore) {
+        if (personalityScore < 50 || personalityScore > 100) {
+            throw new IllegalArgumentException("Personality score must be between 50-100");
+        }
         this.participantId = participantId;
         this.name = name;
         this.email = email;
+        this.lazyName = lazyName;
+        this.lazyEmail = lazyEmail;
+        // NORMALIZE game interest to match VALID_GAMES case
         this.gameInterest = ValidationService.normalizeGameName(gameInterest);
         this.skillLevel = skillLevel;
         this.preferredRole = preferredRole;
-        setPersonalityScore(personalityScore);
+        this.personalityScore = personalityScore;
+        this.personalityType = PersonalityType.fromScore(personalityScore);
+        // IDs read from files are registered with the owning event's IdSequencer by whoever loads them
+        // Name and email are left out of the hash so projected rows need not decode them
+        this.hash = Objects.hash(participantId, this.gameInterest, skillLevel, preferredRole, personalityScore);
+    }
 
-        // Update the counter to avoid ID conflicts
-        IdGenerator.updateCounter(participantId);
+    // Wither-style updates: a copy with one field changed, same ID
+    // (an undecoded name or email is carried over as-is)
+    public Participant withName(String newName) {
+        return new Participant(participantId, newName, email, null, lazyEmail, gameInterest, skillLevel,
+                preferredRole, personalityScore);
     }
 
-    // Proper setter for game interest with normalization
-    public void setGameInterest(String gameInterest) {
-        if (gameInterest != null) {
-            // Normalize the game name to match VALID_GAMES case
-            this.gameInterest = ValidationService.normalizeGameName(gameInterest);
-        } else {
-            this.gameInterest = null;
-        }
+    public Participant withEmail(String newEmail) {
+        return new Participant(participantId, name, newEmail, lazyName, null, gameInterest, skillLevel,
+                preferredRole, personalityScore);
     }
 
-    // Special setter for personality score
-    public void setPersonalityScore(int score) {
-        if (score < 50 || score > 100) {
-            throw new IllegalArgumentException("Personality score must be between 50-100");
-        }
-        this.personalityScore = score;
-        this.personalityType = PersonalityType.fromScore(score);
+    public Participant withGameInterest(String newGameInterest) {
+        return new Participant(participantId, name, email, lazyName, lazyEmail, newGameInterest, skillLevel,
+                preferredRole, personalityScore);
+    }
+
+    public Participant withSkillLevel(int newSkillLevel) {
+        return new Participant(participantId, name, email, lazyName, lazyEmail, gameInterest, newSkillLevel,
+                preferredRole, personalityScore);
+    }
+
+    public Participant withPreferredRole(GameRole newRole) {
+        return new Participant(participantId, name, email, lazyName, lazyEmail, gameInterest, skillLevel,
+                newRole, personalityScore);
+    }
+
+    public Participant withPersonalityScore(int newScore) {
+        return new Participant(participantId, name, email, lazyName, lazyEmail, gameInterest, skillLevel,
+                preferredRole, newScore);
     }
 
     // Getters
     public String getParticipantId() { return participantId; }
-    public String getName() { return name; }
-    public String getEmail() { return email; }
+    public String getName() {
+        String n = name;
+        if (n == null && lazyName != null) {
+            n = lazyName.toString();
+            name = n;
+        }
+        return n;
+    }
+
+    public String getEmail() {
+        String e = email;
+        if (e == null && lazyEmail != null) {
+            e = lazyEmail.toString();
+            email = e;
+        }
+        return e;
+    }
     public String getGameInterest() { return gameInterest; }
     public int getSkillLevel() { return skillLevel; }
     public GameRole getPreferredRole() { return preferredRole; }
     public int getPersonalityScore() { return personalityScore; }
     public PersonalityType getPersonalityType() { return personalityType; }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Participant)) return false;
+        Participant other = (Participant) o;
+        return hash == other.hash
+                && skillLevel == other.skillLevel
+                && personalityScore == other.personalityScore
+                && preferredRole == other.preferredRole
+                && Objects.equals(participantId, other.participantId)
+                && Objects.equals(gameInterest, other.gameInterest)
+                && Objects.equals(getEmail(), other.getEmail())
+                && Objects.equals(getName(), other.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
     @Override
     public String toString() {
         return String.format("%s (%s) - %s | Email: %s | Role: %s | Personality: %s",
-                name, participantId, gameInterest, email, preferredRole, personalityType);
+                getName(), participantId, gameInterest, getEmail(), preferredRole, personalityType);
     }
-}
\ No newline at end of file
+}
@@ -1,44 +1,92 @@
 package com.teammate.models;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class Team {
+    // Told about every membership change, so indexes over formed teams stay current when one is edited
+    public interface MembershipListener {
+        void memberAdded(Team team, Participant participant);
+
+        void memberRemoved(Team team, Participant participant);
+    }
+
     private String teamId;
     private String teamName;
-    private List<Participant> members;
+    private final List<Participant> members;
+    private final List<Participant> membersView;
+    // member -> index in members, by identity: players.csv may hold the same row twice, and those equal
+    // rows are still separate roster entries that can share a team
+    private final Map<Participant, Integer> positions = new IdentityHashMap<>();
+    private int totalSkill;
     private double averageSkill;
+    private final int[] roleCounts = new int[GameRole.values().length];
+    private int roleMask; // bit per GameRole present in the team
+    private final int[] personalityCounts = new int[PersonalityType.values().length];
+    private MembershipListener listener; // at most one; a newer index replaces an older one
 
     public Team(String teamId, String teamName) {
         this.teamId = teamId;
         this.teamName = teamName;
         this.members = new ArrayList<>();
+        this.membersView = Collections.unmodifiableList(members);
         this.averageSkill = 0.0;
     }
 
-    // Add a member to the team
+    // Add a member to the team; the same roster entry can only be on it once
     public void addMember(Participant participant) {
+        if (positions.putIfAbsent(participant, members.size()) != null) {
+            throw new IllegalArgumentException(participant.getParticipantId() + " is already on " + teamId);
+        }
         members.add(participant);
+        totalSkill += participant.getSkillLevel();
+        GameRole role = participant.getPreferredRole();
+        roleCounts[role.ordinal()]++;
+        roleMask |= role.mask();
+        personalityCounts[participant.getPersonalityType().ordinal()]++;
         updateAverageSkill();
+        if (listener != null) {
+            listener.memberAdded(this, participant);
+        }
     }
 
-    // Remove a member from the team
+    // Remove a member from the team in O(1): the last member takes the removed one's place
     public void removeMember(Participant participant) {
-        members.remove(participant);
+        Integer index = positions.remove(participant);
+        if (index != null) {
+            Participant last = members.remove(members.size() - 1);
+            if (index < members.size()) {
+                members.set(index, last);
+                positions.put(last, index);
+            }
+            totalSkill -= participant.getSkillLevel();
+            GameRole role = participant.getPreferredRole();
+            if (--roleCounts[role.ordinal()] == 0) {
+                roleMask &= ~role.mask();
+            }
+            personalityCounts[participant.getPersonalityType().ordinal()]--;
+            if (listener != null) {
+                listener.memberRemoved(this, participant);
+            }
+        }
         updateAverageSkill();
     }
 
-    // Update average skill when members change
+    public void setMembershipListener(MembershipListener listener) {
+        this.listener = listener;
+    }
+
+    public boolean contains(Participant participant) {
+        return positions.containsKey(participant);
+    }
+
+    // Update average skill when members change (running total, no rescan)
     private void updateAverageSkill() {
-        if (!members.isEmpty()) {
-            this.averageSkill = members.stream()
-                    .mapToInt(Participant::getSkillLevel)
-                    .average()
-                    .orElse(0.0);
-        } else {
-            this.averageSkill = 0.0;
-        }
+        this.averageSkill = members.isEmpty() ? 0.0 : (double) totalSkill / members.size();
     }
 
 
@@ -52,7 +100,7 @@ public class Team {
 
     // Check if team has a leader (PersonalityType.LEADER)
     public boolean hasLeader() {
-        return members.stream().anyMatch(p -> p.getPersonalityType() == PersonalityType.LEADER);
+        return personalityCounts[PersonalityType.LEADER.ordinal()] > 0;
     }
 
     // Get the team leader (or null if no leader)
@@ -74,6 +122,13 @@ public class Team {
     public String getTeamId() { return teamId; }
     public String getTeamName() { return teamName; }
     public List<Participant> getMembers() { return new ArrayList<>(members); } // Return copy
+    public List<Participant> getMembersView() { return membersView; } // Read-only, no copy
+    public int getTotalSkill() { return totalSkill; }
+    public int getRoleMask() { return roleMask; }
+    public boolean hasRole(GameRole role) { return (roleMask & role.mask()) != 0; }
+    public int getRoleCount(GameRole role) { return roleCounts[role.ordinal()]; }
+    public int getDistinctRoleCount() { return Integer.bitCount(roleMask); }
+    public int getPersonalityCount(PersonalityType type) { return personalityCounts[type.ordinal()]; }
     public double getAverageSkill() { return averageSkill; }
     public int getSize() { return members.size(); }
 
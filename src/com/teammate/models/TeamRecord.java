@@ -0,0 +1,54 @@
+package com.teammate.models;
+
+import com.teammate.exceptions.InvalidDataException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// A formed team as stored by the exporters: team identity plus member participant IDs
+public class TeamRecord {
+    private final String teamId;
+    private final String teamName;
+    private final List<String> memberIds;
+
+    public TeamRecord(String teamId, String teamName, List<String> memberIds) {
+        this.teamId = teamId;
+        this.teamName = teamName;
+        this.memberIds = Collections.unmodifiableList(memberIds);
+    }
+
+    public static TeamRecord of(Team team) {
+        List<Participant> members = team.getMembersView();
+        String[] ids = new String[members.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = members.get(i).getParticipantId();
+        }
+        return new TeamRecord(team.getTeamId(), team.getTeamName(), List.of(ids));
+    }
+
+    // Rebuilds the Team by looking each member up in the roster (participant ID -> participant)
+    public Team toTeam(Map<String, Participant> rosterById) throws InvalidDataException {
+        Team team = new Team(teamId, teamName);
+        for (String memberId : memberIds) {
+            Participant member = rosterById.get(memberId);
+            if (member == null) {
+                throw new InvalidDataException("Team " + teamId + " references unknown participant " + memberId);
+            }
+            if (team.contains(member)) {
+                throw new InvalidDataException("Team " + teamId + " lists participant " + memberId + " twice");
+            }
+            team.addMember(member);
+        }
+        return team;
+    }
+
+    public String getTeamId() { return teamId; }
+    public String getTeamName() { return teamName; }
+    public List<String> getMemberIds() { return memberIds; }
+
+    @Override
+    public String toString() {
+        return teamId + " - " + teamName + " " + memberIds;
+    }
+}
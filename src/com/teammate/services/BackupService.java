@@ -0,0 +1,422 @@
+package com.teammate.services;
+
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+// Deduplicating backups. Files are split into fixed-size chunks stored once under
+// backups/chunks/<sha256>, and each backup is a manifest listing every file with its chunk hashes.
+// Files whose size and modification time match the previous manifest are not even read again.
+// Each chunk is written from the buffer that was hashed and forced before it is renamed into place,
+// as is the manifest, so a crash never leaves a manifest pointing at empty or short chunks; a chunk
+// is only reused when its size is right. Restores copy chunks with FileChannel.transferTo, and
+// separate files are processed in parallel.
+//
+// Manifest layout (backups/manifests/backup_<timestamp>.manifest, UTF-8, tab separated):
+//   # TeamMate backup v1
+//   <file name> \t <size> \t <mtime millis> \t <hash>,<hash>,...
+public class BackupService {
+    public static final int CHUNK_SIZE = 1 << 20;
+    private static final String MANIFEST_HEADER = "# TeamMate backup v1";
+    private static final String MANIFEST_SUFFIX = ".manifest";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS");
+
+    private static final LatencyHistogram BACKUP_LATENCY = MetricsRegistry.histogram(
+            "teammate_backup_seconds", "Time to create one backup");
+    private static final Counter CHUNKS_WRITTEN = MetricsRegistry.counter(
+            "teammate_backup_chunks_total", "Backup chunks by outcome", "result", "written");
+    private static final Counter CHUNKS_DEDUPLICATED = MetricsRegistry.counter(
+            "teammate_backup_chunks_total", "Backup chunks by outcome", "result", "deduplicated");
+
+    private final Path backupRoot;
+    private final Path chunkDir;
+    private final Path manifestDir;
+    private final int threads;
+
+    public BackupService(Path backupRoot) {
+        this(backupRoot, Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    public BackupService(Path backupRoot, int threads) {
+        this.backupRoot = backupRoot;
+        this.chunkDir = backupRoot.resolve("chunks");
+        this.manifestDir = backupRoot.resolve("manifests");
+        this.threads = threads;
+    }
+
+    public Path getBackupRoot() {
+        return backupRoot;
+    }
+
+    // Backs up the given files (missing ones are skipped) and returns the new manifest
+    public Manifest backup(List<Path> files) throws IOException {
+        long timer = MetricsRegistry.startTimer();
+        Files.createDirectories(chunkDir);
+        Files.createDirectories(manifestDir);
+
+        Map<String, Entry> previous = new HashMap<>();
+        List<Manifest> existing = listBackups();
+        if (!existing.isEmpty()) {
+            for (Entry entry : existing.get(0).getEntries()) {
+                previous.put(entry.getFileName(), entry);
+            }
+        }
+
+        List<Path> present = new ArrayList<>();
+        for (Path file : files) {
+            if (Files.isRegularFile(file)) {
+                present.add(file);
+            }
+        }
+
+        List<Entry> entries = runAll(present, file -> backupFile(file, previous.get(file.getFileName().toString())));
+
+        String name = "backup_" + LocalDateTime.now().format(TIMESTAMP);
+        Manifest manifest = new Manifest(name, manifestDir.resolve(name + MANIFEST_SUFFIX), entries);
+        writeManifest(manifest);
+        BACKUP_LATENCY.recordSince(timer);
+        return manifest;
+    }
+
+    // Newest first
+    public List<Manifest> listBackups() throws IOException {
+        if (!Files.isDirectory(manifestDir)) {
+            return new ArrayList<>();
+        }
+        List<Path> manifestFiles;
+        try (Stream<Path> stream = Files.list(manifestDir)) {
+            manifestFiles = stream.filter(p -> p.getFileName().toString().endsWith(MANIFEST_SUFFIX))
+                    .sorted(Collections.reverseOrder())
+                    .toList();
+        }
+        List<Manifest> manifests = new ArrayList<>(manifestFiles.size());
+        for (Path manifestFile : manifestFiles) {
+            manifests.add(readManifest(manifestFile));
+        }
+        return manifests;
+    }
+
+    // Rebuilds every file in the manifest inside targetDir; each file is replaced atomically
+    public void restore(Manifest manifest, Path targetDir) throws IOException {
+        Files.createDirectories(targetDir);
+        runAll(manifest.getEntries(), entry -> {
+            restoreFile(entry, targetDir);
+            return entry;
+        });
+    }
+
+    // Keeps the newest keepLast backups, then deletes chunks no remaining manifest refers to.
+    // Returns the number of chunk files removed.
+    public int prune(int keepLast) throws IOException {
+        if (keepLast < 1) {
+            throw new IllegalArgumentException("At least one backup must be kept");
+        }
+        List<Manifest> manifests = listBackups();
+        for (int i = keepLast; i < manifests.size(); i++) {
+            Files.deleteIfExists(manifests.get(i).getFile());
+        }
+
+        Set<String> live = new HashSet<>();
+        for (Manifest manifest : manifests.subList(0, Math.min(keepLast, manifests.size()))) {
+            for (Entry entry : manifest.getEntries()) {
+                live.addAll(entry.getChunks());
+            }
+        }
+
+        int removed = 0;
+        if (Files.isDirectory(chunkDir)) {
+            try (Stream<Path> stream = Files.walk(chunkDir)) {
+                for (Path chunk : (Iterable<Path>) stream.filter(Files::isRegularFile)::iterator) {
+                    if (!live.contains(chunk.getFileName().toString())) {
+                        Files.delete(chunk);
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    private Entry backupFile(Path file, Entry previous) throws IOException {
+        long size = Files.size(file);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        // Unchanged since the last backup: reuse its chunk list without reading the file
+        if (previous != null && previous.getSize() == size && previous.getModifiedMillis() == modified
+                && allChunksPresent(previous)) {
+            CHUNKS_DEDUPLICATED.add(previous.getChunks().size());
+            return previous;
+        }
+
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        List<String> chunks = new ArrayList<>();
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (long position = 0; position < size; position += CHUNK_SIZE) {
+                long length = Math.min(CHUNK_SIZE, size - position);
+                buffer.clear().limit((int) length);
+                while (buffer.hasRemaining() && source.read(buffer, position + buffer.position()) >= 0) {
+                    // keep reading until the chunk is full
+                }
+                buffer.flip();
+                digest.update(buffer);
+                String hash = toHex(digest.digest());
+                chunks.add(hash);
+
+                Path chunk = chunkPath(hash);
+                if (chunkIntact(chunk, length)) {
+                    CHUNKS_DEDUPLICATED.increment();
+                    continue;
+                }
+                Files.createDirectories(chunk.getParent());
+                Path temp = Files.createTempFile(chunk.getParent(), hash, ".tmp");
+                try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    // Write exactly the bytes that were hashed; re-reading the live file could store
+                    // different content under this hash if it changed in between
+                    buffer.rewind();
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    target.force(true);
+                }
+                moveAtomically(temp, chunk);
+                CHUNKS_WRITTEN.increment();
+            }
+        }
+        return new Entry(file.getFileName().toString(), size, modified, chunks);
+    }
+
+    private void restoreFile(Entry entry, Path targetDir) throws IOException {
+        // Manifests only ever hold bare file names; refuse anything that would escape targetDir
+        if (!entry.getFileName().equals(Path.of(entry.getFileName()).getFileName().toString())) {
+            throw new IOException("Invalid file name in manifest: " + entry.getFileName());
+        }
+        Path target = targetDir.resolve(entry.getFileName());
+        Path temp = Files.createTempFile(targetDir, entry.getFileName(), ".restore");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (String hash : entry.getChunks()) {
+                    Path chunk = chunkPath(hash);
+                    if (!Files.exists(chunk)) {
+                        throw new IOException("Backup chunk missing for " + entry.getFileName() + ": " + hash);
+                    }
+                    try (FileChannel in = FileChannel.open(chunk, StandardOpenOption.READ)) {
+                        transferFully(in, 0, in.size(), out);
+                    }
+                }
+                out.force(true);
+            }
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(entry.getModifiedMillis()));
+            moveAtomically(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void transferFully(FileChannel source, long position, long length, FileChannel target)
+            throws IOException {
+        long done = 0;
+        while (done < length) {
+            // transferTo may copy less than asked, so loop until the whole range is done
+            long copied = source.transferTo(position + done, length - done, target);
+            if (copied <= 0) {
+                throw new IOException("File shrank while it was being copied");
+            }
+            done += copied;
+        }
+    }
+
+    // Every chunk exists with the length the entry implies (full chunks, then the remainder)
+    private boolean allChunksPresent(Entry entry) throws IOException {
+        List<String> chunks = entry.getChunks();
+        for (int i = 0; i < chunks.size(); i++) {
+            long length = Math.min(CHUNK_SIZE, entry.getSize() - (long) i * CHUNK_SIZE);
+            if (!chunkIntact(chunkPath(chunks.get(i)), length)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // A chunk left short by a crash before chunks were forced is treated as missing and rewritten
+    private static boolean chunkIntact(Path chunk, long length) throws IOException {
+        return Files.exists(chunk) && Files.size(chunk) == length;
+    }
+
+    // Two-level fan-out keeps directories small: chunks/ab/abcdef...
+    private Path chunkPath(String hash) {
+        return chunkDir.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private void writeManifest(Manifest manifest) throws IOException {
+        Path temp = manifest.getFile().resolveSibling(manifest.getFile().getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(MANIFEST_HEADER);
+            writer.newLine();
+            for (Entry entry : manifest.getEntries()) {
+                writer.write(entry.getFileName() + "\t" + entry.getSize() + "\t" + entry.getModifiedMillis()
+                        + "\t" + String.join(",", entry.getChunks()));
+                writer.newLine();
+            }
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        moveAtomically(temp, manifest.getFile());
+    }
+
+    private static Manifest readManifest(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(MANIFEST_HEADER)) {
+            throw new IOException("Not a backup manifest: " + file);
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields.length != 4) {
+                throw new IOException("Corrupt manifest line " + (i + 1) + " in " + file);
+            }
+            List<String> chunks = fields[3].isEmpty() ? List.of() : List.of(fields[3].split(","));
+            entries.add(new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), chunks));
+        }
+        String fileName = file.getFileName().toString();
+        return new Manifest(fileName.substring(0, fileName.length() - MANIFEST_SUFFIX.length()), file, entries);
+    }
+
+    private <T> List<Entry> runAll(List<T> items, IoTask<T> task) throws IOException {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, items.size()));
+        try {
+            List<Future<Entry>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> task.run(item)));
+            }
+            List<Entry> results = new ArrayList<>(items.size());
+            for (Future<Entry> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during backup", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = Character.forDigit((bytes[i] >> 4) & 0xF, 16);
+            hex[i * 2 + 1] = Character.forDigit(bytes[i] & 0xF, 16);
+        }
+        return new String(hex);
+    }
+
+    private interface IoTask<T> {
+        Entry run(T item) throws IOException;
+    }
+
+    // One backed-up file: name, size, mtime and its chunks in order
+    public static final class Entry {
+        private final String fileName;
+        private final long size;
+        private final long modifiedMillis;
+        private final List<String> chunks;
+
+        Entry(String fileName, long size, long modifiedMillis, List<String> chunks) {
+            this.fileName = fileName;
+            this.size = size;
+            this.modifiedMillis = modifiedMillis;
+            this.chunks = Collections.unmodifiableList(chunks);
+        }
+
+        public String getFileName() { return fileName; }
+        public long getSize() { return size; }
+        public long getModifiedMillis() { return modifiedMillis; }
+        public List<String> getChunks() { return chunks; }
+    }
+
+    public static final class Manifest {
+        private final String name;
+        private final Path file;
+        private final List<Entry> entries;
+
+        Manifest(String name, Path file, List<Entry> entries) {
+            this.name = name;
+            this.file = file;
+            this.entries = Collections.unmodifiableList(entries);
+        }
+
+        public String getName() { return name; }
+        public Path getFile() { return file; }
+        public List<Entry> getEntries() { return entries; }
+
+        public long getTotalBytes() {
+            long total = 0;
+            for (Entry entry : entries) {
+                total += entry.getSize();
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.models.TeamRecord;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Compact binary team file:
+//   int magic "TMTB", short version, int teamCount,
+//   per team: UTF teamId, UTF teamName, unsigned short memberCount, memberCount x UTF participantId
+public class BinaryTeamCodec implements TeamExporter {
+    static final int MAGIC = 0x544D5442; // "TMTB"
+    static final short VERSION = 1;
+    static final int MAX_MEMBERS = 0xFFFF;
+    private static final int MAX_PREALLOCATED_TEAMS = 1024;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void export(List<Team> teams, Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(teams.size());
+            for (Team team : teams) {
+                List<Participant> members = team.getMembersView();
+                if (members.size() > MAX_MEMBERS) {
+                    throw new IOException("Team " + team.getTeamId() + " has " + members.size() +
+                            " members; the binary format holds at most " + MAX_MEMBERS);
+                }
+                out.writeUTF(team.getTeamId());
+                out.writeUTF(team.getTeamName());
+                out.writeShort(members.size());
+                for (Participant member : members) {
+                    out.writeUTF(member.getParticipantId());
+                }
+            }
+        }
+    }
+
+    public static List<TeamRecord> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a TeamMate binary team file: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported binary team file version " + version + ": " + file);
+            }
+
+            int teamCount = in.readInt();
+            if (teamCount < 0) {
+                throw new IOException("Corrupt binary team file (team count " + teamCount + "): " + file);
+            }
+            // The count is untrusted: a damaged one runs into end-of-file below instead of a huge allocation
+            List<TeamRecord> records = new ArrayList<>(Math.min(teamCount, MAX_PREALLOCATED_TEAMS));
+            for (int t = 0; t < teamCount; t++) {
+                String teamId = in.readUTF();
+                String teamName = in.readUTF();
+                int memberCount = in.readUnsignedShort();
+                String[] memberIds = new String[memberCount];
+                for (int m = 0; m < memberCount; m++) {
+                    memberIds[m] = in.readUTF();
+                }
+                records.add(new TeamRecord(teamId, teamName, List.of(memberIds)));
+            }
+            return records;
+        }
+    }
+}
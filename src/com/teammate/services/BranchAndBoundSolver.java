@@ -0,0 +1,401 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import com.teammate.models.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+// Exact search over FormationObjective for small rosters.
+// Players are placed in descending skill order; a branch is cut as soon as a lower bound on its
+// final cost reaches the best formation found so far (the incumbent, seeded from a greedy strategy).
+//
+// Bounds come from aggregates precomputed over the remaining players (prefix sums of skill,
+// suffix role masks, suffix leader/thinker counts), so each node costs O(T):
+//   skill  - each team's final total lies between "current + the smallest k remaining" and
+//            "current + the largest k remaining" for its k open slots; the distance from that
+//            interval to the mean is a lower bound on its deviation
+//   roles  - a team cannot gain more roles than it has open slots, nor roles nobody remaining has
+//   rules  - full teams without a Leader/Thinker stay that way; open ones can only be fixed by
+//            the Leaders/Thinkers still remaining
+//   games  - overlap only grows as members are added, so the current overlap is a lower bound
+// Symmetry breaking: teams are interchangeable, so a player only ever opens the first empty team.
+// The top of the tree is split into ForkJoin tasks (work stealing); when the time limit is hit
+// every task stops and the incumbent is returned without the optimality guarantee.
+class BranchAndBoundSolver {
+    static final int MAX_PARTICIPANTS = 200;
+    private static final double EPSILON = 1e-9;
+    private static final int CHECK_INTERVAL = 1024;
+    private static final int ROLE_COUNT = GameRole.values().length;
+
+    private final int teamSize;
+    private final FormationObjective objective;
+    private final long timeLimitMillis;
+    private final int parallelism;
+
+    // Problem data, indexed by player position in descending skill order
+    private Participant[] players;
+    private int[] skill;
+    private int[] roleBit;
+    private int[] roleIndex;
+    private boolean[] leader;
+    private boolean[] thinker;
+    private int[] gameIndex;
+    private int games;
+    private long[] skillPrefix;
+    private int[] suffixRoles;
+    private int[] suffixLeaders;
+    private int[] suffixThinkers;
+    private int teams;
+    private int rolesNeeded;
+    private double mean;
+
+    // Shared search state
+    private volatile double bestCost;
+    private int[] bestAssignment;
+    private volatile boolean stopped;
+    private long deadline;
+    private final LongAdder nodes = new LongAdder();
+
+    BranchAndBoundSolver(int teamSize, FormationObjective objective, long timeLimitMillis, int parallelism) {
+        this.teamSize = teamSize;
+        this.objective = objective;
+        this.timeLimitMillis = timeLimitMillis;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Players not in any incumbent team (roster not divisible by team size) stay out of the search
+    Result solve(List<Team> incumbent) {
+        List<Participant> placed = new ArrayList<>();
+        for (Team team : incumbent) {
+            placed.addAll(team.getMembersView());
+        }
+        prepare(placed, incumbent.size());
+
+        Map<Participant, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < players.length; i++) {
+            positions.put(players[i], i);
+        }
+        int[] start = new int[players.length];
+        for (int t = 0; t < incumbent.size(); t++) {
+            for (Participant member : incumbent.get(t).getMembersView()) {
+                start[positions.get(member)] = t;
+            }
+        }
+        bestAssignment = start;
+        bestCost = evaluate(start);
+        double initialCost = bestCost;
+
+        deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new SearchTask(new State(teams, players.length, games), 0, 1));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return new Result(buildTeams(bestAssignment), !stopped, nodes.sum(), initialCost, bestCost);
+    }
+
+    private void prepare(List<Participant> placed, int teamCount) {
+        List<Participant> sorted = new ArrayList<>(placed);
+        sorted.sort((a, b) -> Integer.compare(b.getSkillLevel(), a.getSkillLevel()));
+        int n = sorted.size();
+        players = sorted.toArray(new Participant[0]);
+        skill = new int[n];
+        roleBit = new int[n];
+        roleIndex = new int[n];
+        leader = new boolean[n];
+        thinker = new boolean[n];
+        gameIndex = new int[n];
+        skillPrefix = new long[n + 1];
+        Map<String, Integer> gameIds = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Participant p = players[i];
+            skill[i] = p.getSkillLevel();
+            roleBit[i] = p.getPreferredRole().mask();
+            roleIndex[i] = p.getPreferredRole().ordinal();
+            leader[i] = p.getPersonalityType() == PersonalityType.LEADER;
+            thinker[i] = p.getPersonalityType() == PersonalityType.THINKER;
+            gameIndex[i] = gameIds.computeIfAbsent(String.valueOf(p.getGameInterest()), g -> gameIds.size());
+            skillPrefix[i + 1] = skillPrefix[i] + skill[i];
+        }
+        suffixRoles = new int[n + 1];
+        suffixLeaders = new int[n + 1];
+        suffixThinkers = new int[n + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            suffixRoles[i] = suffixRoles[i + 1] | roleBit[i];
+            suffixLeaders[i] = suffixLeaders[i + 1] + (leader[i] ? 1 : 0);
+            suffixThinkers[i] = suffixThinkers[i + 1] + (thinker[i] ? 1 : 0);
+        }
+        games = Math.max(1, gameIds.size());
+        teams = teamCount;
+        rolesNeeded = FormationObjective.rolesCoverable(teamSize);
+        mean = teamCount == 0 ? 0 : (double) skillPrefix[n] / teamCount;
+    }
+
+    // Lower bound on the final cost of any completion of state (exact once every player is placed)
+    private double bound(State s, int next) {
+        int n = players.length;
+        double deviation = 0;
+        int missing = 0;
+        int fullWithoutLeader = 0;
+        int openWithoutLeader = 0;
+        int fullWithoutThinker = 0;
+        int openWithoutThinker = 0;
+
+        for (int t = 0; t < teams; t++) {
+            int slots = teamSize - s.size[t];
+            // Remaining players are sorted by descending skill, so the largest k start at next
+            double low = s.total[t] + (skillPrefix[n] - skillPrefix[Math.max(next, n - slots)]);
+            double high = s.total[t] + (skillPrefix[Math.min(n, next + slots)] - skillPrefix[next]);
+            double gap = mean < low ? low - mean : (mean > high ? mean - high : 0);
+            deviation += gap * gap;
+
+            int have = Integer.bitCount(s.mask[t]);
+            if (have < rolesNeeded) {
+                int bySlots = rolesNeeded - have - slots;
+                int byAvailable = rolesNeeded - Integer.bitCount(s.mask[t] | suffixRoles[next]);
+                missing += Math.max(0, Math.max(bySlots, byAvailable));
+            }
+
+            if (!s.leader[t]) {
+                if (slots == 0) fullWithoutLeader++; else openWithoutLeader++;
+            }
+            if (!s.thinker[t]) {
+                if (slots == 0) fullWithoutThinker++; else openWithoutThinker++;
+            }
+        }
+        int withoutLeader = fullWithoutLeader + Math.max(0, openWithoutLeader - suffixLeaders[next]);
+        int withoutThinker = fullWithoutThinker + Math.max(0, openWithoutThinker - suffixThinkers[next]);
+        return objective.cost(deviation, missing, withoutLeader, withoutThinker, s.gameOverlap);
+    }
+
+    private double evaluate(int[] assignment) {
+        State s = new State(teams, players.length, games);
+        for (int i = 0; i < assignment.length; i++) {
+            s.place(this, i, assignment[i]);
+        }
+        return bound(s, players.length);
+    }
+
+    private synchronized void offer(State s, double cost) {
+        if (cost < bestCost - EPSILON) {
+            bestCost = cost;
+            bestAssignment = s.assignment.clone();
+        }
+    }
+
+    // Teams this player may join: open teams in ascending total skill, plus only the first empty one
+    private int candidates(State s, int[] out) {
+        int count = 0;
+        for (int t = 0; t < teams; t++) {
+            if (s.size[t] == 0) {
+                if (t == s.usedTeams) {
+                    out[count++] = t;
+                }
+            } else if (s.size[t] < teamSize) {
+                out[count++] = t;
+            }
+        }
+        // Insertion sort; count is at most T and usually tiny
+        for (int i = 1; i < count; i++) {
+            int t = out[i];
+            int j = i - 1;
+            while (j >= 0 && s.total[out[j]] > s.total[t]) {
+                out[j + 1] = out[j];
+                j--;
+            }
+            out[j + 1] = t;
+        }
+        return count;
+    }
+
+    private final class SearchTask extends RecursiveAction {
+        private final State state;
+        private final int next;
+        private final long siblings;
+
+        SearchTask(State state, int next, long siblings) {
+            this.state = state;
+            this.next = next;
+            this.siblings = siblings;
+        }
+
+        @Override
+        protected void compute() {
+            // Split until there is plenty of work to steal, then search sequentially
+            if (siblings >= (long) parallelism * 64 || next >= players.length) {
+                dfs(state, next, new long[1]);
+                return;
+            }
+            if (stopped || bound(state, next) >= bestCost - EPSILON) {
+                return;
+            }
+            nodes.increment();
+            int[] options = new int[teams];
+            int count = candidates(state, options);
+            List<SearchTask> children = new ArrayList<>(count);
+            for (int c = 0; c < count; c++) {
+                State child = state.copy();
+                child.place(BranchAndBoundSolver.this, next, options[c]);
+                children.add(new SearchTask(child, next + 1, siblings * count));
+            }
+            invokeAll(children);
+        }
+
+        private void dfs(State s, int i, long[] counter) {
+            if (stopped) {
+                return;
+            }
+            if (++counter[0] % CHECK_INTERVAL == 0) {
+                nodes.add(CHECK_INTERVAL);
+                if (System.nanoTime() > deadline) {
+                    stopped = true;
+                    return;
+                }
+            }
+            double lowerBound = bound(s, i);
+            if (lowerBound >= bestCost - EPSILON) {
+                return;
+            }
+            if (i == players.length) {
+                offer(s, lowerBound);
+                return;
+            }
+            int[] options = new int[teams];
+            int count = candidates(s, options);
+            for (int c = 0; c < count && !stopped; c++) {
+                s.place(BranchAndBoundSolver.this, i, options[c]);
+                dfs(s, i + 1, counter);
+                s.unplace(BranchAndBoundSolver.this, i);
+            }
+        }
+    }
+
+    private List<Team> buildTeams(int[] assignment) {
+        List<Team> result = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) {
+            result.add(new Team("T" + (t + 1), "Team " + (t + 1)));
+        }
+        // Team numbering follows the order teams were opened, members keep roster order
+        for (int i = 0; i < assignment.length; i++) {
+            result.get(assignment[i]).addMember(players[i]);
+        }
+        return result;
+    }
+
+    // Per-team aggregates for a partial assignment; place and unplace are O(1)
+    private static final class State {
+        final int[] total;
+        final int[] size;
+        final int[] mask;
+        final boolean[] leader;
+        final boolean[] thinker;
+        final int[] leaders;
+        final int[] thinkers;
+        final int[] roleCounts; // team * ROLE_COUNT + role ordinal
+        final int[] gameCounts; // team * games + game index
+        final int[] assignment;
+        final int games;
+        int usedTeams;
+        int gameOverlap;
+
+        State(int teams, int players, int games) {
+            total = new int[teams];
+            size = new int[teams];
+            mask = new int[teams];
+            leader = new boolean[teams];
+            thinker = new boolean[teams];
+            leaders = new int[teams];
+            thinkers = new int[teams];
+            roleCounts = new int[teams * ROLE_COUNT];
+            gameCounts = new int[teams * games];
+            this.games = games;
+            assignment = new int[players];
+            Arrays.fill(assignment, -1);
+        }
+
+        private State(State other) {
+            total = other.total.clone();
+            size = other.size.clone();
+            mask = other.mask.clone();
+            leader = other.leader.clone();
+            thinker = other.thinker.clone();
+            leaders = other.leaders.clone();
+            thinkers = other.thinkers.clone();
+            roleCounts = other.roleCounts.clone();
+            gameCounts = other.gameCounts.clone();
+            games = other.games;
+            assignment = other.assignment.clone();
+            usedTeams = other.usedTeams;
+            gameOverlap = other.gameOverlap;
+        }
+
+        State copy() {
+            return new State(this);
+        }
+
+        void place(BranchAndBoundSolver solver, int player, int team) {
+            if (size[team] == 0) {
+                usedTeams = Math.max(usedTeams, team + 1);
+            }
+            assignment[player] = team;
+            total[team] += solver.skill[player];
+            size[team]++;
+            roleCounts[team * ROLE_COUNT + solver.roleIndex[player]]++;
+            mask[team] |= solver.roleBit[player];
+            if (++gameCounts[team * games + solver.gameIndex[player]] > FormationObjective.MAX_SAME_GAME) gameOverlap++;
+            if (solver.leader[player]) leader[team] = ++leaders[team] > 0;
+            if (solver.thinker[player]) thinker[team] = ++thinkers[team] > 0;
+        }
+
+        void unplace(BranchAndBoundSolver solver, int player) {
+            int team = assignment[player];
+            assignment[player] = -1;
+            total[team] -= solver.skill[player];
+            size[team]--;
+            if (size[team] == 0 && team == usedTeams - 1) {
+                usedTeams--;
+            }
+            if (solver.leader[player]) leader[team] = --leaders[team] > 0;
+            if (solver.thinker[player]) thinker[team] = --thinkers[team] > 0;
+            if (gameCounts[team * games + solver.gameIndex[player]]-- > FormationObjective.MAX_SAME_GAME) gameOverlap--;
+            if (--roleCounts[team * ROLE_COUNT + solver.roleIndex[player]] == 0) {
+                mask[team] &= ~solver.roleBit[player];
+            }
+        }
+    }
+
+    static final class Result {
+        private final List<Team> teams;
+        private final boolean optimal;
+        private final long nodes;
+        private final double initialCost;
+        private final double cost;
+
+        Result(List<Team> teams, boolean optimal, long nodes, double initialCost, double cost) {
+            this.teams = Collections.unmodifiableList(teams);
+            this.optimal = optimal;
+            this.nodes = nodes;
+            this.initialCost = initialCost;
+            this.cost = cost;
+        }
+
+        List<Team> getTeams() { return teams; }
+        boolean isOptimal() { return optimal; }
+        long getNodes() { return nodes; }
+        double getInitialCost() { return initialCost; }
+        double getCost() { return cost; }
+    }
+}
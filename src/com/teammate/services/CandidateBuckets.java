@@ -0,0 +1,118 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+// Counting-sort buckets over a small integer key (skill 1-10, personality score 50-100, team size...).
+// add() is O(1); pollHighest()/pollLowest() are O(1) amortized because the cursors only move
+// past empty buckets. Items with equal keys come out in insertion order, like a stable sort.
+public class CandidateBuckets<T> {
+    private final int minKey;
+    private final ToIntFunction<? super T> key;
+    private final List<ArrayDeque<T>> buckets; // created on first use, so sparse key ranges stay cheap
+    private int size;
+    private int highest; // no non-empty bucket above this index
+    private int lowest;  // no non-empty bucket below this index
+
+    public CandidateBuckets(int minKey, int maxKey, ToIntFunction<? super T> key) {
+        if (maxKey < minKey) {
+            throw new IllegalArgumentException("maxKey must be >= minKey");
+        }
+        this.minKey = minKey;
+        this.key = key;
+        this.buckets = new ArrayList<>(Collections.nCopies(maxKey - minKey + 1, null));
+        this.highest = -1;
+        this.lowest = buckets.size();
+    }
+
+    public static CandidateBuckets<Participant> bySkill() {
+        return new CandidateBuckets<>(1, 10, Participant::getSkillLevel);
+    }
+
+    public static CandidateBuckets<Participant> byPersonalityScore() {
+        return new CandidateBuckets<>(50, 100, Participant::getPersonalityScore);
+    }
+
+    public void add(T item) {
+        // Out-of-range keys are clamped so the ordering stays total
+        int index = Math.max(0, Math.min(buckets.size() - 1, key.applyAsInt(item) - minKey));
+        ArrayDeque<T> bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new ArrayDeque<>();
+            buckets.set(index, bucket);
+        }
+        bucket.addLast(item);
+        size++;
+        if (index > highest) highest = index;
+        if (index < lowest) lowest = index;
+    }
+
+    public void addAll(Collection<? extends T> items) {
+        for (T item : items) {
+            add(item);
+        }
+    }
+
+    public T pollHighest() {
+        if (size == 0) {
+            return null;
+        }
+        while (isEmpty(highest)) {
+            highest--;
+        }
+        return take(highest);
+    }
+
+    public T pollLowest() {
+        if (size == 0) {
+            return null;
+        }
+        while (isEmpty(lowest)) {
+            lowest++;
+        }
+        return take(lowest);
+    }
+
+    // Empties the buckets into target, highest key first (counting sort)
+    public void drainDescending(List<? super T> target) {
+        for (int i = highest; i >= 0 && size > 0; i--) {
+            ArrayDeque<T> bucket = buckets.get(i);
+            if (bucket != null) {
+                size -= bucket.size();
+                target.addAll(bucket);
+                bucket.clear();
+            }
+        }
+        highest = -1;
+        lowest = buckets.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private boolean isEmpty(int index) {
+        ArrayDeque<T> bucket = buckets.get(index);
+        return bucket == null || bucket.isEmpty();
+    }
+
+    private T take(int index) {
+        T item = buckets.get(index).pollFirst();
+        size--;
+        if (size == 0) {
+            highest = -1;
+            lowest = buckets.size();
+        }
+        return item;
+    }
+}
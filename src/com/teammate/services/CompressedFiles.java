@@ -0,0 +1,99 @@
+package com.teammate.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Opens data files by name: paths ending in ".gz" are streamed through gzip, everything else is plain.
+// Compression level comes from -Dteammate.gzip.level (1-9, default 6) or setCompressionLevel().
+public final class CompressedFiles {
+    public static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static volatile int compressionLevel =
+            parseLevel(System.getProperty("teammate.gzip.level"), Deflater.DEFAULT_COMPRESSION);
+
+    private CompressedFiles() {
+    }
+
+    public static boolean isGzip(Path file) {
+        return file.getFileName().toString().endsWith(GZIP_SUFFIX);
+    }
+
+    public static int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public static void setCompressionLevel(int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Compression level must be between 1 and 9: " + level);
+        }
+        compressionLevel = level;
+    }
+
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (isGzip(file)) {
+            // GZIPInputStream also reads concatenated members, so appended .gz files load in full
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return new BufferedInputStream(in, BUFFER_SIZE);
+    }
+
+    public static BufferedReader newBufferedReader(Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(newInputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return newOutputStream(file, false);
+    }
+
+    // Appending to a .gz file adds a new gzip member rather than rewriting the existing data
+    public static OutputStream newOutputStream(Path file, boolean append) throws IOException {
+        OutputStream out = append
+                ? Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                : Files.newOutputStream(file);
+        if (isGzip(file)) {
+            return new LevelledGzipOutputStream(out, compressionLevel);
+        }
+        return new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    // Copies source to target, compressing or decompressing when exactly one of them ends in ".gz"
+    public static long copy(Path source, Path target) throws IOException {
+        try (InputStream in = newInputStream(source);
+             OutputStream out = newOutputStream(target)) {
+            return in.transferTo(out);
+        }
+    }
+
+    private static int parseLevel(String value, int fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            int level = Integer.parseInt(value.trim());
+            return level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION ? level : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static class LevelledGzipOutputStream extends GZIPOutputStream {
+        LevelledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Shares String instances for low-cardinality CSV columns while one file (or one watcher) is read.
+// Known games resolve to the ValidationService.VALID_GAMES constants and roles to GameRole constants,
+// so every participant of a game holds the same instance and equality short-circuits on ==.
+// Anything else that repeats (unrecognised game names) goes through a small map that stops admitting
+// new values once full, so a column that turns out to be high-cardinality cannot grow it unbounded.
+final class FieldInterner {
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final int capacity;
+    private final Map<String, String> seen = new HashMap<>();
+
+    FieldInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    FieldInterner(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // Canonical game name; unknown games are kept as written (the loaders never rejected them)
+    String game(String raw) {
+        String canonical = ValidationService.canonicalGameName(raw);
+        return canonical != null ? canonical : intern(raw);
+    }
+
+    GameRole role(String raw) {
+        return GameRole.fromName(raw);
+    }
+
+    String intern(String value) {
+        String existing = seen.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (seen.size() < capacity) {
+            seen.put(value, value);
+        }
+        return value;
+    }
+
+    int size() {
+        return seen.size();
+    }
+}
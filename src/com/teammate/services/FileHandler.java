@@ -2,19 +2,78 @@ package com.teammate.services;
 
 import com.teammate.models.Participant;
 import com.teammate.models.Team;
+import com.teammate.models.TeamRecord;
 import com.teammate.models.GameRole;
 import com.teammate.models.IdGenerator;
+import com.teammate.models.IdSequencer;
 import com.teammate.exceptions.FileProcessingException;
+import com.teammate.exceptions.InvalidDataException;
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.FileIoEvent;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 public class FileHandler {
+    private static final LatencyHistogram LOAD_LATENCY = MetricsRegistry.histogram(
+            "teammate_file_load_seconds", "Time to load a participant CSV file");
+    private static final Counter ROWS_LOADED = MetricsRegistry.counter(
+            "teammate_file_rows_total", "Participant rows read from CSV files", "result", "loaded");
+    private static final Counter ROWS_REJECTED = MetricsRegistry.counter(
+            "teammate_file_rows_total", "Participant rows read from CSV files", "result", "rejected");
+    private static final LatencyHistogram SAVE_TEAMS_LATENCY = MetricsRegistry.histogram(
+            "teammate_file_save_teams_seconds", "Time to write a formed teams file");
+    private static final Counter TEAMS_SAVED = MetricsRegistry.counter(
+            "teammate_file_teams_saved_total", "Teams written to formed teams files");
+    private static final LatencyHistogram LOAD_TEAMS_LATENCY = MetricsRegistry.histogram(
+            "teammate_file_load_teams_seconds", "Time to load a formed teams file");
+    private static final LatencyHistogram SAVE_PARTICIPANT_LATENCY = MetricsRegistry.histogram(
+            "teammate_file_save_participant_seconds", "Time to append one participant to a CSV file");
+
+    static final String PARTICIPANT_HEADER = "ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore";
+    public static final String SURVEY_FILE_NAME = "players.csv";
+
+    private final Path dataDirectory;
+    private final Path surveyFile;
+    private final IdSequencer ids;
+    private SurveyWriteQueue surveyWriteQueue;
+
+    // players.csv and formed teams files in the working directory, process-wide IDs
+    public FileHandler() {
+        this(Paths.get(""), IdGenerator.defaultSequencer());
+    }
+
+    // One handler per event: its own data directory and ID sequencer
+    public FileHandler(Path dataDirectory, IdSequencer ids) {
+        this.dataDirectory = dataDirectory;
+        this.surveyFile = dataDirectory.resolve(SURVEY_FILE_NAME);
+        this.ids = ids;
+    }
+
+    public Path getDataDirectory() {
+        return dataDirectory;
+    }
+
+    public Path getSurveyFile() {
+        return surveyFile;
+    }
 
     public List<Participant> loadParticipants(String filePath) throws FileProcessingException {
+        long timer = MetricsRegistry.startTimer();
 
         // Create directory if it doesn't exist
         File file = new File(filePath);
@@ -30,8 +89,11 @@ public class FileHandler {
         }
 
         List<Participant> participants = new ArrayList<>();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "read");
+        FieldInterner interner = new FieldInterner();
 
-        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filePath))) {
+        // .csv.gz files are decompressed as they are read
+        try (BufferedReader reader = CompressedFiles.newBufferedReader(Paths.get(filePath))) {
             String line;
             int lineNumber = 0;
             int successCount = 0;
@@ -44,7 +106,7 @@ public class FileHandler {
                 if (line.trim().isEmpty()) continue; // Skip empty lines
 
                 try {
-                    Participant participant = parseParticipant(line, lineNumber);
+                    Participant participant = parseParticipant(line, lineNumber, interner);
                     participants.add(participant);
                     successCount++;
                 } catch (Exception e) {
@@ -53,8 +115,12 @@ public class FileHandler {
                 }
             }
 
-            // Initialize ID generator with loaded participants
-            IdGenerator.initializeCounter(participants);
+            // Continue this event's IDs after the loaded participants
+            ids.seed(participants, surveyFile);
+            System.out.println("Next ID will be: " + ids.peekNextParticipantId());
+            ROWS_LOADED.add(successCount);
+            ROWS_REJECTED.add(errorCount);
+            ioEvent.finish(-1, successCount, errorCount);
 
             System.out.println("📊 File processing summary:");
             System.out.println("   ✅ Successfully loaded: " + successCount + " participants");
@@ -63,10 +129,13 @@ public class FileHandler {
             }
 
         } catch (IOException e) {
+            ioEvent.finish(0, participants.size(), 1);
             throw new FileProcessingException("Error reading file: " + e.getMessage() +
                     "\n💡 Please check file permissions and format.");
         }
 
+        LOAD_LATENCY.recordSince(timer);
+
         if (participants.isEmpty()) {
             throw new FileProcessingException("No valid participant data found in file." +
                     "\n💡 Please ensure the file has the correct format with 7 columns:" +
@@ -76,7 +145,54 @@ public class FileHandler {
         return participants;
     }
 
-    private Participant parseParticipant(String line, int lineNumber) throws Exception {
+    // Formation-only load: ID, game, skill, role and personality score are parsed; names and emails
+    // are validated but decoded only when first read. Same rejections, ID seeding and metrics as
+    // loadParticipants. Compressed files have no byte offsets to point into, so they take the full path.
+    public List<Participant> loadParticipantsProjected(String filePath) throws FileProcessingException {
+        Path path = Paths.get(filePath);
+        if (CompressedFiles.isGzip(path)) {
+            return loadParticipants(filePath);
+        }
+        if (!Files.exists(path)) {
+            throw new FileProcessingException("File not found: " + filePath +
+                    "\n💡 Please check the file path and try again.");
+        }
+
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "read");
+        ProjectedParticipantReader reader = new ProjectedParticipantReader();
+        List<Participant> participants;
+        try {
+            participants = reader.read(path);
+        } catch (IOException e) {
+            ioEvent.finish(reader.getBytesRead(), 0, 1);
+            throw new FileProcessingException("Error reading file: " + e.getMessage() +
+                    "\n💡 Please check file permissions and format.");
+        }
+
+        ids.seed(participants, surveyFile);
+        System.out.println("Next ID will be: " + ids.peekNextParticipantId());
+        ROWS_LOADED.add(participants.size());
+        ROWS_REJECTED.add(reader.getRejectedCount());
+        ioEvent.finish(reader.getBytesRead(), participants.size(), reader.getRejectedCount());
+        System.out.println("📊 File processing summary:");
+        System.out.println("   ✅ Successfully loaded: " + participants.size() + " participants");
+        if (reader.getRejectedCount() > 0) {
+            System.out.println("   ❌ Skipped due to errors: " + reader.getRejectedCount() + " lines");
+        }
+        LOAD_LATENCY.recordSince(timer);
+
+        if (participants.isEmpty()) {
+            throw new FileProcessingException("No valid participant data found in file." +
+                    "\n💡 Please ensure the file has the correct format with 7 columns:" +
+                    "\n   ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore");
+        }
+        return participants;
+    }
+
+    // Package-private so SurveyFileWatcher can parse tailed rows the same way; the interner is
+    // shared across the rows of one load so game and role values are canonical instances
+    static Participant parseParticipant(String line, int lineNumber, FieldInterner interner) throws Exception {
         String[] fields = line.split(",");
         if (fields.length < 7) {
             throw new Exception("Insufficient data fields. Expected 7, got " + fields.length +
@@ -87,9 +203,9 @@ public class FileHandler {
             String id = fields[0].trim();
             String name = fields[1].trim();
             String email = fields[2].trim();
-            String gameInterest = fields[3].trim();
+            String gameInterest = interner.game(fields[3].trim());
             int skillLevel = Integer.parseInt(fields[4].trim());
-            GameRole role = GameRole.valueOf(fields[5].trim().toUpperCase());
+            GameRole role = interner.role(fields[5].trim());
             int personalityScore = Integer.parseInt(fields[6].trim());
 
             // Validate basic data
@@ -123,6 +239,13 @@ public class FileHandler {
     }
 
     public void saveTeams(List<Team> teams, String filePath) throws FileProcessingException {
+        saveTeams(teams, filePath, TeamCsvWriter.Layout.TEAM_ROWS);
+    }
+
+    // Streams teams straight to disk; MEMBER_ROWS writes one row per member instead of a quoted list
+    public void saveTeams(List<Team> teams, String filePath, TeamCsvWriter.Layout layout) throws FileProcessingException {
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "write");
         try {
             // Create directory if it doesn't exist
             File file = new File(filePath);
@@ -132,50 +255,71 @@ public class FileHandler {
                 System.out.println("📁 Created directory: " + parentDir.getAbsolutePath());
             }
 
-            try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(filePath))) {
-                // Write header
-                writer.write("TeamID,TeamName,MemberCount,AverageSkill,Members,GameInterests");
-                writer.newLine();
-
-                for (Team team : teams) {
-                    String membersStr = String.join("; ",
-                            team.getMembers().stream()
-                                    .map(Participant::toString)
-                                    .toArray(String[]::new)
-                    );
-
-                    String gameInterestsStr = String.join(", ", team.getGameInterests());
-
-                    String line = String.format("%s,%s,%d,%.2f,\"%s\",\"%s\"",
-                            team.getTeamId(),
-                            team.getTeamName(),
-                            team.getSize(),
-                            team.getAverageSkill(),
-                            membersStr,
-                            gameInterestsStr
-                    );
-
-                    writer.write(line);
-                    writer.newLine();
-                }
+            try (TeamCsvWriter writer = TeamCsvWriter.open(Paths.get(filePath), layout)) {
+                writer.writeAll(teams);
             }
 
+            ioEvent.finish(-1, teams.size(), 0);
+            SAVE_TEAMS_LATENCY.recordSince(timer);
+            TEAMS_SAVED.add(teams.size());
             System.out.println("✅ Successfully saved " + teams.size() + " teams to: " + filePath);
 
         } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
             throw new FileProcessingException("Error writing to file: " + e.getMessage() +
                     "\n💡 Please check if the directory is writable.");
         }
     }
 
-    // Save player to players.csv (appends if file exists)
+    // Save player to players.csv (appends if file exists); returns once the row is on disk
     public void savePlayerToSurveyFile(Participant participant) throws FileProcessingException {
-        String surveyFilePath = "players.csv"; // Root directory
-        saveParticipantToFile(participant, surveyFilePath, true);
+        try {
+            submitPlayerToSurveyFile(participant).get();
+            System.out.println("✅ Participant data saved to: " + surveyFile);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileProcessingException("Interrupted while saving participant to " + surveyFile);
+        } catch (ExecutionException e) {
+            throw new FileProcessingException("Error saving participant to " + surveyFile + ": " + e.getCause().getMessage());
+        }
+    }
+
+    // Queue a survey row without waiting; concurrent submissions share one write + fsync
+    public CompletableFuture<Void> submitPlayerToSurveyFile(Participant participant) {
+        return surveyQueue().submit(participant);
+    }
+
+    private synchronized SurveyWriteQueue surveyQueue() {
+        if (surveyWriteQueue == null) {
+            surveyWriteQueue = new SurveyWriteQueue(surveyFile);
+        }
+        return surveyWriteQueue;
+    }
+
+    // Flush queued survey rows and stop the writer thread
+    public synchronized void close() {
+        if (surveyWriteQueue != null) {
+            surveyWriteQueue.close();
+            surveyWriteQueue = null;
+        }
+    }
+
+    static String formatParticipantRow(Participant participant) {
+        return String.format("%s,%s,%s,%s,%d,%s,%d",
+                participant.getParticipantId(),
+                participant.getName(),
+                participant.getEmail(),
+                participant.getGameInterest(),
+                participant.getSkillLevel(),
+                participant.getPreferredRole().name(),
+                participant.getPersonalityScore()
+        );
     }
 
     // Generic method to save participant to any file
     private void saveParticipantToFile(Participant participant, String filePath, boolean append) throws FileProcessingException {
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, append ? "append" : "write");
         try {
             // Create directory if it doesn't exist
             File file = new File(filePath);
@@ -185,30 +329,27 @@ public class FileHandler {
             }
 
             boolean fileExists = Files.exists(Paths.get(filePath));
+            String row = formatParticipantRow(participant);
 
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, append))) {
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    CompressedFiles.newOutputStream(Paths.get(filePath), append), StandardCharsets.UTF_8))) {
                 if (!fileExists) {
                     // Write header
-                    writer.write("ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore");
+                    writer.write(PARTICIPANT_HEADER);
                     writer.newLine();
                 }
 
                 // Write participant data
-                writer.write(String.format("%s,%s,%s,%s,%d,%s,%d",
-                        participant.getParticipantId(),
-                        participant.getName(),
-                        participant.getEmail(),
-                        participant.getGameInterest(),
-                        participant.getSkillLevel(),
-                        participant.getPreferredRole().name(),
-                        participant.getPersonalityScore()
-                ));
+                writer.write(row);
                 writer.newLine();
             }
 
+            ioEvent.finish(row.length() + System.lineSeparator().length(), 1, 0);
+            SAVE_PARTICIPANT_LATENCY.recordSince(timer);
             System.out.println("✅ Participant data saved to: " + filePath);
 
         } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
             throw new FileProcessingException("Error saving participant to " + filePath + ": " + e.getMessage());
         }
     }
@@ -229,7 +370,7 @@ public class FileHandler {
     // Check if players.csv exists and has data
     public boolean hasSurveyPlayers() {
         try {
-            List<Participant> players = loadPlayersFromCSV("players.csv");
+            List<Participant> players = loadPlayersFromCSV(surveyFile.toString());
             return !players.isEmpty();
         } catch (FileProcessingException e) {
             return false;
@@ -238,16 +379,119 @@ public class FileHandler {
 
     // Save formed teams to a dedicated file
     public void saveFormedTeams(List<Team> teams) throws FileProcessingException {
+        saveFormedTeams(teams, TeamExportFormat.CSV);
+    }
+
+    // Save formed teams as formed_teams_<timestamp>.<csv|jsonl|teams>; returns the file written
+    public String saveFormedTeams(List<Team> teams, TeamExportFormat format) throws FileProcessingException {
         String timestamp = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-        String teamsFilePath = "formed_teams_" + timestamp + ".csv"; // More descriptive
+        String teamsFilePath = dataDirectory.resolve("formed_teams_" + timestamp + "." + format.getExtension()).toString();
         System.out.println("💾 Saving teams to: " + new File(teamsFilePath).getAbsolutePath());
-        saveTeams(teams, teamsFilePath);
+
+        exportTeams(teams, teamsFilePath, format);
+        return teamsFilePath;
+    }
+
+    // Write teams in any format; TeamExportFormat.exporter() is the one place a format picks its writer
+    public void exportTeams(List<Team> teams, String filePath, TeamExportFormat format) throws FileProcessingException {
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "write");
+        try {
+            File parentDir = new File(filePath).getAbsoluteFile().getParentFile();
+            if (parentDir != null && !parentDir.exists()) {
+                parentDir.mkdirs();
+                System.out.println("📁 Created directory: " + parentDir.getAbsolutePath());
+            }
+
+            format.exporter().export(teams, Paths.get(filePath));
+            ioEvent.finish(-1, teams.size(), 0);
+            SAVE_TEAMS_LATENCY.recordSince(timer);
+            TEAMS_SAVED.add(teams.size());
+            System.out.println("✅ Successfully saved " + teams.size() + " teams (" + format.getDisplayName() + ") to: " + filePath);
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
+            throw new FileProcessingException("Error writing to file: " + e.getMessage() +
+                    "\n💡 Please check if the directory is writable.");
+        }
+    }
+
+    // Read back teams written as JSON Lines or binary: team identity plus member IDs, no text parsing
+    public List<TeamRecord> loadTeamRecords(String filePath) throws FileProcessingException {
+        if (!Files.exists(Paths.get(filePath))) {
+            throw new FileProcessingException("File not found: " + filePath +
+                    "\n💡 Please check the file path and try again.");
+        }
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "read");
+        try {
+            List<TeamRecord> records = TeamExportFormat.readRecords(Paths.get(filePath));
+            ioEvent.finish(-1, records.size(), 0);
+            return records;
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
+            throw new FileProcessingException("Error reading teams file: " + e.getMessage());
+        }
+    }
+
+    // Rebuilds formed teams from any formed_teams file (either CSV layout, .gz, JSON Lines or binary).
+    // Members are looked up by participant ID in a hash index of the roster; a team that names a
+    // participant missing from the roster is skipped and reported, like an invalid CSV row.
+    public List<Team> loadFormedTeams(String filePath, Collection<Participant> roster) throws FileProcessingException {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new FileProcessingException("File not found: " + filePath +
+                    "\n💡 Please check the file path and try again.");
+        }
+
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(filePath, "read");
+        List<TeamRecord> records;
+        int rejected = 0;
+        try {
+            String name = path.getFileName().toString();
+            if (name.endsWith("." + TeamExportFormat.JSON_LINES.getExtension())
+                    || name.endsWith("." + TeamExportFormat.BINARY.getExtension())) {
+                records = TeamExportFormat.readRecords(path);
+            } else {
+                FormedTeamsReader reader = new FormedTeamsReader(Runtime.getRuntime().availableProcessors());
+                records = reader.read(path);
+                rejected = reader.getRejectedRows();
+            }
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, 1);
+            throw new FileProcessingException("Error reading teams file: " + e.getMessage());
+        }
+
+        Map<String, Participant> rosterById = new HashMap<>(Math.max(16, roster.size() * 4 / 3 + 1));
+        for (Participant participant : roster) {
+            rosterById.put(participant.getParticipantId(), participant);
+        }
+        List<Team> teams = new ArrayList<>(records.size());
+        for (TeamRecord record : records) {
+            try {
+                teams.add(record.toTeam(rosterById));
+            } catch (InvalidDataException e) {
+                System.err.println("❌ Skipping team: " + e.getMessage());
+                rejected++;
+            }
+        }
+
+        ioEvent.finish(-1, teams.size(), rejected);
+        LOAD_TEAMS_LATENCY.recordSince(timer);
+        System.out.println("📊 Loaded " + teams.size() + " teams from: " + filePath);
+        if (rejected > 0) {
+            System.out.println("   ❌ Skipped due to errors: " + rejected);
+        }
+        if (teams.isEmpty()) {
+            throw new FileProcessingException("No teams could be rebuilt from " + filePath +
+                    "\n💡 Import the players these teams were formed from first.");
+        }
+        return teams;
     }
 
     // Check if a player already exists in players.csv (to avoid duplicates)
     public boolean playerExistsInSurveyFile(String email) {
         try {
-            List<Participant> existingPlayers = loadPlayersFromCSV("players.csv");
+            List<Participant> existingPlayers = loadPlayersFromCSV(surveyFile.toString());
             return existingPlayers.stream()
                     .anyMatch(p -> p.getEmail().equalsIgnoreCase(email));
         } catch (FileProcessingException e) {
@@ -258,10 +502,13 @@ public class FileHandler {
     // Get only new players (those not already imported)
     public List<Participant> getNewPlayers(List<Participant> importedPlayers, List<Participant> currentParticipants) {
         List<Participant> newPlayers = new ArrayList<>();
+        Set<String> existingEmails = new HashSet<>(currentParticipants.size() * 2);
+        for (Participant existing : currentParticipants) {
+            existingEmails.add(existing.getEmail().toLowerCase());
+        }
 
         for (Participant imported : importedPlayers) {
-            boolean alreadyExists = currentParticipants.stream()
-                    .anyMatch(existing -> existing.getEmail().equalsIgnoreCase(imported.getEmail()));
+            boolean alreadyExists = existingEmails.contains(imported.getEmail().toLowerCase());
 
             if (!alreadyExists) {
                 newPlayers.add(imported);
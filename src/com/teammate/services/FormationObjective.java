@@ -0,0 +1,139 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.PersonalityType;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The stated objective for search-based strategies (lower cost is better):
+//   skillWeight   x sum over teams of (team total skill - mean team total)^2
+// + roleWeight    x roles missing per team (a team of k can cover min(k, 5) roles)
+// + leaderWeight  x teams without a Leader
+// + thinkerWeight x teams without a Thinker
+// + gameWeight    x game overlap: players beyond the second from the same game in one team
+// The default weights make the leader/thinker rules dominate, then role coverage and game variety,
+// then skill spread.
+public final class FormationObjective {
+    public static final int MAX_SAME_GAME = 2;
+    public static final FormationObjective DEFAULT = new FormationObjective(1.0, 25.0, 400.0, 200.0, 25.0);
+
+    private final double skillWeight;
+    private final double roleWeight;
+    private final double leaderWeight;
+    private final double thinkerWeight;
+    private final double gameWeight;
+
+    public FormationObjective(double skillWeight, double roleWeight, double leaderWeight, double thinkerWeight,
+                              double gameWeight) {
+        if (skillWeight < 0 || roleWeight < 0 || leaderWeight < 0 || thinkerWeight < 0 || gameWeight < 0) {
+            throw new IllegalArgumentException("Objective weights must not be negative");
+        }
+        this.skillWeight = skillWeight;
+        this.roleWeight = roleWeight;
+        this.leaderWeight = leaderWeight;
+        this.thinkerWeight = thinkerWeight;
+        this.gameWeight = gameWeight;
+    }
+
+    public double getSkillWeight() { return skillWeight; }
+    public double getRoleWeight() { return roleWeight; }
+    public double getLeaderWeight() { return leaderWeight; }
+    public double getThinkerWeight() { return thinkerWeight; }
+    public double getGameWeight() { return gameWeight; }
+
+    public double cost(List<Team> teams) {
+        return cost(score(teams));
+    }
+
+    public double cost(Score score) {
+        return cost(score.skillDeviation, score.missingRoles, score.teamsWithoutLeader, score.teamsWithoutThinker,
+                score.gameOverlap);
+    }
+
+    double cost(double skillDeviation, int missingRoles, int teamsWithoutLeader, int teamsWithoutThinker, int gameOverlap) {
+        return skillWeight * skillDeviation
+                + roleWeight * missingRoles
+                + leaderWeight * teamsWithoutLeader
+                + thinkerWeight * teamsWithoutThinker
+                + gameWeight * gameOverlap;
+    }
+
+    public static Score score(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return new Score(0, 0, 0, 0, 0, 0);
+        }
+        double mean = 0;
+        for (Team team : teams) {
+            mean += team.getTotalSkill();
+        }
+        mean /= teams.size();
+
+        double deviation = 0;
+        int missingRoles = 0;
+        int withoutLeader = 0;
+        int withoutThinker = 0;
+        int gameOverlap = 0;
+        Map<String, Integer> games = new HashMap<>();
+        for (Team team : teams) {
+            double d = team.getTotalSkill() - mean;
+            deviation += d * d;
+            missingRoles += Math.max(0, rolesCoverable(team.getSize()) - team.getDistinctRoleCount());
+
+            boolean leader = false;
+            boolean thinker = false;
+            games.clear();
+            for (Participant member : team.getMembersView()) {
+                leader |= member.getPersonalityType() == PersonalityType.LEADER;
+                thinker |= member.getPersonalityType() == PersonalityType.THINKER;
+                if (games.merge(String.valueOf(member.getGameInterest()), 1, Integer::sum) > MAX_SAME_GAME) {
+                    gameOverlap++;
+                }
+            }
+            if (!leader) withoutLeader++;
+            if (!thinker) withoutThinker++;
+        }
+        return new Score(deviation, missingRoles, withoutLeader, withoutThinker, gameOverlap, teams.size());
+    }
+
+    static int rolesCoverable(int teamSize) {
+        return Math.min(teamSize, GameRole.values().length);
+    }
+
+    // The individual objective terms of one formation
+    public static final class Score {
+        private final double skillDeviation;
+        private final int missingRoles;
+        private final int teamsWithoutLeader;
+        private final int teamsWithoutThinker;
+        private final int gameOverlap;
+        private final int teamCount;
+
+        Score(double skillDeviation, int missingRoles, int teamsWithoutLeader, int teamsWithoutThinker, int gameOverlap,
+              int teamCount) {
+            this.skillDeviation = skillDeviation;
+            this.missingRoles = missingRoles;
+            this.teamsWithoutLeader = teamsWithoutLeader;
+            this.teamsWithoutThinker = teamsWithoutThinker;
+            this.gameOverlap = gameOverlap;
+            this.teamCount = teamCount;
+        }
+
+        // Sum of squared deviations of team total skill from the mean
+        public double getSkillDeviation() { return skillDeviation; }
+        public double getSkillVariance() { return teamCount == 0 ? 0 : skillDeviation / teamCount; }
+        public int getMissingRoles() { return missingRoles; }
+        public int getTeamsWithoutLeader() { return teamsWithoutLeader; }
+        public int getTeamsWithoutThinker() { return teamsWithoutThinker; }
+        public int getGameOverlap() { return gameOverlap; }
+
+        @Override
+        public String toString() {
+            return String.format("skill variance %.2f, %d missing roles, %d teams without Leader, %d without Thinker, " +
+                    "game overlap %d", getSkillVariance(), missingRoles, teamsWithoutLeader, teamsWithoutThinker, gameOverlap);
+        }
+    }
+}
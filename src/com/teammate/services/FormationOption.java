@@ -0,0 +1,29 @@
+package com.teammate.services;
+
+import com.teammate.models.Team;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// One precomputed formation from TeamBuilder.findParetoFormations, with its objective terms
+// and the same summary analyzeTeamFormation gives for formed teams
+public final class FormationOption {
+    private final String label;
+    private final List<Team> teams;
+    private final FormationObjective.Score score;
+    private final Map<String, Object> analysis;
+
+    FormationOption(String label, List<Team> teams, FormationObjective.Score score, Map<String, Object> analysis) {
+        this.label = label;
+        this.teams = Collections.unmodifiableList(teams);
+        this.score = score;
+        this.analysis = Collections.unmodifiableMap(analysis);
+    }
+
+    // How the formation was found, e.g. "weights skill 1, roles 25, games 100"
+    public String getLabel() { return label; }
+    public List<Team> getTeams() { return teams; }
+    public FormationObjective.Score getScore() { return score; }
+    public Map<String, Object> getAnalysis() { return analysis; }
+}
@@ -0,0 +1,21 @@
+package com.teammate.services;
+
+// How TeamBuilder.formTeams(FormationStrategy) assigns participants to teams
+public enum FormationStrategy {
+    FAIR_DISTRIBUTION("Personality balance (leaders, thinkers, then the rest)"),
+    SKILL_BALANCED("Skill balance (equal total skill, same leader/thinker rules)"),
+    ROLE_COVERAGE("Role coverage (as many different game roles per team as possible)"),
+    OPTIMAL("Optimal search (exact best formation, up to 200 players, time-limited)"),
+    GENETIC("Genetic search (trades off all goals, any roster size, time-limited)"),
+    PARETO("Compare trade-offs (choose from formations balancing skill, roles and games differently)");
+
+    private final String displayName;
+
+    FormationStrategy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,410 @@
+package com.teammate.services;
+
+import com.teammate.models.TeamRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Reads formed_teams CSV files in either TeamCsvWriter layout back into TeamRecords (team identity
+// plus member IDs). Member text is never parsed into Participants: TEAM_ROWS yields the "(ID)" of
+// each member, MEMBER_ROWS its ParticipantID column, and callers resolve IDs against the roster.
+//
+// Plain files are read in two passes. The first streams the file once, tracking only quote state,
+// and records a record boundary about every CHUNK_SIZE bytes (team names may hold quoted newlines,
+// so a raw '\n' is not enough). The second parses those byte ranges in parallel, each worker reading
+// just its own range. .gz files cannot be split, so they are parsed as one stream.
+final class FormedTeamsReader {
+    static final int CHUNK_SIZE = 8 << 20;
+    private static final int SCAN_BUFFER = 1 << 16;
+
+    private final int chunkSize;
+    private final int parallelism;
+    private TeamCsvWriter.Layout layout;
+    private int rejectedRows;
+
+    FormedTeamsReader(int parallelism) {
+        this(CHUNK_SIZE, parallelism);
+    }
+
+    FormedTeamsReader(int chunkSize, int parallelism) {
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    List<TeamRecord> read(Path file) throws IOException {
+        List<Chunk> chunks = CompressedFiles.isGzip(file) ? readCompressed(file) : readPlain(file);
+        return merge(chunks);
+    }
+
+    TeamCsvWriter.Layout getLayout() {
+        return layout;
+    }
+
+    int getRejectedRows() {
+        return rejectedRows;
+    }
+
+    private List<Chunk> readPlain(Path file) throws IOException {
+        long[] boundaries;
+        byte[] headerBytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            boundaries = recordBoundaries(channel);
+            headerBytes = readRange(channel, 0, boundaries[0]);
+        }
+        layout = layoutOf(headerBytes, 0, headerBytes.length);
+
+        int ranges = boundaries.length - 1;
+        if (ranges == 0) {
+            return List.of();
+        }
+        if (ranges == 1 || parallelism == 1) {
+            List<Chunk> chunks = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                for (int i = 0; i < ranges; i++) {
+                    chunks.add(parseRange(channel, boundaries[i], boundaries[i + 1]));
+                }
+            }
+            return chunks;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, ranges), runnable -> {
+            Thread thread = new Thread(runnable, "teams-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Chunk>> futures = new ArrayList<>(ranges);
+            for (int i = 0; i < ranges; i++) {
+                long start = boundaries[i];
+                long end = boundaries[i + 1];
+                futures.add(pool.submit(() -> {
+                    // Positional reads: workers share nothing but the path
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        return parseRange(channel, start, end);
+                    }
+                }));
+            }
+            List<Chunk> chunks = new ArrayList<>(ranges);
+            for (Future<Chunk> future : futures) {
+                chunks.add(future.get());
+            }
+            return chunks;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + file);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // boundaries[0] is the end of the header; the last entry is the file size
+    private long[] recordBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER);
+        long position = 0;
+        long nextCut = -1;
+        boolean inQuotes = false;
+        while (position < size) {
+            buffer.clear();
+            int n = channel.read(buffer, position);
+            if (n < 0) break;
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < n; i++) {
+                byte b = bytes[i];
+                if (b == '"') {
+                    // A doubled quote toggles twice, so escaped quotes need no special case
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes && position + i + 1 > nextCut) {
+                    long boundary = position + i + 1;
+                    boundaries.add(boundary);
+                    nextCut = boundary + chunkSize - 1;
+                }
+            }
+            position += n;
+        }
+        if (boundaries.isEmpty() || boundaries.get(boundaries.size() - 1) != size) {
+            boundaries.add(size);
+        }
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static byte[] readRange(FileChannel channel, long start, long end) throws IOException {
+        byte[] bytes = new byte[Math.toIntExact(end - start)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("File shrank while reading");
+            }
+        }
+        return bytes;
+    }
+
+    private Chunk parseRange(FileChannel channel, long start, long end) throws IOException {
+        byte[] bytes = readRange(channel, start, end);
+        Chunk chunk = new Chunk(layout);
+        chunk.parse(bytes, 0, bytes.length, true);
+        return chunk;
+    }
+
+    private List<Chunk> readCompressed(Path file) throws IOException {
+        Chunk chunk = null;
+        try (InputStream in = CompressedFiles.newInputStream(file)) {
+            byte[] buffer = new byte[SCAN_BUFFER];
+            int filled = 0;
+            boolean header = true;
+            while (true) {
+                int n = in.read(buffer, filled, buffer.length - filled);
+                boolean eof = n < 0;
+                if (!eof) {
+                    filled += n;
+                    if (filled < buffer.length) continue;
+                }
+                int start = 0;
+                if (header) {
+                    int headerEnd = recordEnd(buffer, 0, filled, eof);
+                    if (headerEnd < 0) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                        continue;
+                    }
+                    layout = layoutOf(buffer, 0, headerEnd);
+                    chunk = new Chunk(layout);
+                    header = false;
+                    start = headerEnd;
+                }
+                int consumed = chunk.parse(buffer, start, filled, eof);
+                if (eof) {
+                    break;
+                }
+                // Carry the incomplete record over; grow if one record fills the whole buffer
+                int remaining = filled - consumed;
+                if (remaining == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                } else {
+                    System.arraycopy(buffer, consumed, buffer, 0, remaining);
+                }
+                filled = remaining;
+            }
+        }
+        return chunk == null ? List.of() : List.of(chunk);
+    }
+
+    // Index just past the first record ending at or after start, or -1 if it is not complete yet
+    private static int recordEnd(byte[] bytes, int start, int limit, boolean eof) {
+        boolean inQuotes = false;
+        for (int i = start; i < limit; i++) {
+            if (bytes[i] == '"') {
+                inQuotes = !inQuotes;
+            } else if (bytes[i] == '\n' && !inQuotes) {
+                return i + 1;
+            }
+        }
+        return eof ? limit : -1;
+    }
+
+    private static TeamCsvWriter.Layout layoutOf(byte[] bytes, int start, int end) throws IOException {
+        String header = new String(bytes, start, end - start, StandardCharsets.UTF_8).trim();
+        if (header.startsWith("﻿")) {
+            header = header.substring(1);
+        }
+        if (header.equals(TeamCsvWriter.TEAM_ROWS_HEADER)) {
+            return TeamCsvWriter.Layout.TEAM_ROWS;
+        }
+        if (header.equals(TeamCsvWriter.MEMBER_ROWS_HEADER)) {
+            return TeamCsvWriter.Layout.MEMBER_ROWS;
+        }
+        throw new IOException("Not a formed teams file (unexpected header: " + header + ")");
+    }
+
+    // Chunks come back in file order; a MEMBER_ROWS team cut by a chunk boundary is stitched together
+    private List<TeamRecord> merge(List<Chunk> chunks) {
+        Map<String, PartialTeam> teams = new LinkedHashMap<>();
+        List<TeamRecord> records = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            rejectedRows += chunk.rejected;
+            for (PartialTeam row : chunk.rows) {
+                if (layout == TeamCsvWriter.Layout.TEAM_ROWS) {
+                    records.add(row.toRecord());
+                } else {
+                    PartialTeam existing = teams.putIfAbsent(row.teamId, row);
+                    if (existing != null) {
+                        existing.memberIds.addAll(row.memberIds);
+                    }
+                }
+            }
+        }
+        if (layout == TeamCsvWriter.Layout.MEMBER_ROWS) {
+            for (PartialTeam row : teams.values()) {
+                records.add(row.toRecord());
+            }
+        }
+        return records;
+    }
+
+    // Member IDs of one team as read so far
+    private static final class PartialTeam {
+        final String teamId;
+        final String teamName;
+        final List<String> memberIds;
+
+        PartialTeam(String teamId, String teamName, List<String> memberIds) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+            this.memberIds = memberIds;
+        }
+
+        TeamRecord toRecord() {
+            return new TeamRecord(teamId, teamName, memberIds);
+        }
+    }
+
+    // Parser state for one byte range; MEMBER_ROWS runs of the same team collapse into one row
+    private static final class Chunk {
+        private static final int MAX_FIELDS = 9;
+
+        final TeamCsvWriter.Layout layout;
+        final List<PartialTeam> rows = new ArrayList<>();
+        int rejected;
+        private final String[] fields = new String[MAX_FIELDS];
+        private final StringBuilder field = new StringBuilder();
+
+        Chunk(TeamCsvWriter.Layout layout) {
+            this.layout = layout;
+        }
+
+        // Parses whole records in [start, limit); returns the offset after the last one parsed.
+        // With last set, a trailing record without a newline is parsed too.
+        int parse(byte[] bytes, int start, int limit, boolean last) {
+            int position = start;
+            while (position < limit) {
+                int end = recordEnd(bytes, position, limit, last);
+                if (end < 0) {
+                    break;
+                }
+                int count = split(bytes, position, end);
+                position = end;
+                if (count == 1 && fields[0].isEmpty()) {
+                    continue; // blank line
+                }
+                try {
+                    accept(count);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("❌ Skipping invalid team row: " + e.getMessage());
+                    rejected++;
+                }
+            }
+            return position;
+        }
+
+        private void accept(int count) {
+            if (layout == TeamCsvWriter.Layout.MEMBER_ROWS) {
+                if (count < 3 || fields[2].isEmpty()) {
+                    throw new IllegalArgumentException("expected TeamID,TeamName,ParticipantID,...");
+                }
+                PartialTeam previous = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+                if (previous != null && previous.teamId.equals(fields[0])) {
+                    previous.memberIds.add(fields[2]);
+                } else {
+                    List<String> ids = new ArrayList<>();
+                    ids.add(fields[2]);
+                    rows.add(new PartialTeam(fields[0], fields[1], ids));
+                }
+                return;
+            }
+            if (count < 5) {
+                throw new IllegalArgumentException("expected TeamID,TeamName,MemberCount,AverageSkill,Members,...");
+            }
+            int memberCount = Integer.parseInt(fields[2]);
+            List<String> ids = memberIds(fields[4]);
+            if (ids.size() != memberCount) {
+                throw new IllegalArgumentException("team " + fields[0] + " lists " + ids.size()
+                        + " member IDs but MemberCount is " + memberCount);
+            }
+            rows.add(new PartialTeam(fields[0], fields[1], ids));
+        }
+
+        // Members read "Name (ID) - Game | Email: ... | Role: ... | Personality: ...", joined by "; ".
+        // Each member entry starts a new "; "-separated part whose ID sits in the last "(...) - "
+        // before its " | Email: ", which also copes with brackets inside names.
+        private static List<String> memberIds(String members) {
+            List<String> ids = new ArrayList<>();
+            int from = 0;
+            while (true) {
+                int email = members.indexOf(" | Email: ", from);
+                if (email < 0) {
+                    return ids;
+                }
+                int close = members.lastIndexOf(") - ", email);
+                int open = close < from ? -1 : members.lastIndexOf(" (", close);
+                if (close < from || open < from) {
+                    throw new IllegalArgumentException("member without an (ID): " + members.substring(from, email));
+                }
+                ids.add(members.substring(open + 2, close));
+                // Next member begins after this one's Personality value
+                int next = members.indexOf("; ", email);
+                if (next < 0) {
+                    return ids;
+                }
+                from = next + 2;
+            }
+        }
+
+        // RFC 4180 field split of one record (quotes doubled inside quoted fields)
+        private int split(byte[] bytes, int start, int end) {
+            int limit = end;
+            if (limit > start && bytes[limit - 1] == '\n') limit--;
+            if (limit > start && bytes[limit - 1] == '\r') limit--;
+
+            int count = 0;
+            int i = start;
+            while (count < MAX_FIELDS) {
+                field.setLength(0);
+                if (i < limit && bytes[i] == '"') {
+                    int segment = ++i;
+                    while (i < limit) {
+                        if (bytes[i] == '"') {
+                            if (i + 1 < limit && bytes[i + 1] == '"') {
+                                field.append(new String(bytes, segment, i + 1 - segment, StandardCharsets.UTF_8));
+                                i += 2;
+                                segment = i;
+                                continue;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    field.append(new String(bytes, segment, i - segment, StandardCharsets.UTF_8));
+                    i++; // closing quote
+                    while (i < limit && bytes[i] != ',') i++;
+                } else {
+                    int segment = i;
+                    while (i < limit && bytes[i] != ',') i++;
+                    field.append(new String(bytes, segment, i - segment, StandardCharsets.UTF_8));
+                }
+                fields[count++] = field.toString();
+                if (i >= limit) {
+                    break;
+                }
+                i++; // comma
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import com.teammate.models.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+// Evolutionary search over FormationObjective for rosters too large for the exact search.
+// A genome is an int[] of team indexes, one per player, with exactly teamSize players per team.
+// Operators keep that invariant: swap mutation exchanges two players on different teams, and
+// uniform crossover is followed by a repair that moves random surplus players from overfull teams
+// into the teams that came up short.
+//
+// Islands evolve separate populations on their own threads and meet at a barrier every
+// MIGRATION_INTERVAL generations, where each island's best genomes replace the worst of the next
+// island (ring). Offspring fitness is evaluated in parallel on a shared ForkJoin pool.
+// Each island draws from its own random stream split from the seed and migration happens in
+// lockstep, so a given seed and generation budget always give the same result; a time limit
+// that cuts the run short ends it at the next migration.
+class GeneticFormationEngine {
+    static final int MIGRATION_INTERVAL = 20;
+    private static final int MIGRANTS = 2;
+    private static final int ELITES = 2;
+    private static final int TOURNAMENT = 3;
+    private static final double MUTATION_RATE = 0.3;
+
+    private final int teamSize;
+    private final FormationObjective objective;
+    private final int islands;
+    private final int populationSize;
+    private final int maxGenerations;
+    private final long timeLimitMillis;
+    private final long seed;
+    private final int parallelism;
+
+    // Problem data, indexed by player position in the first seed formation
+    private Participant[] players;
+    private int[] skill;
+    private int[] roleBit;
+    private boolean[] leader;
+    private boolean[] thinker;
+    private int[] gameIndex;
+    private int games;
+    private int teams;
+    private int rolesNeeded;
+    private double mean;
+
+    private ForkJoinPool evaluator;
+    private final LongAdder evaluations = new LongAdder();
+
+    GeneticFormationEngine(int teamSize, FormationObjective objective, int islands, int populationSize,
+                           int maxGenerations, long timeLimitMillis, long seed, int parallelism) {
+        if (islands < 1 || populationSize < ELITES + MIGRANTS + 1 || maxGenerations < 1) {
+            throw new IllegalArgumentException("Invalid genetic search budget");
+        }
+        this.teamSize = teamSize;
+        this.objective = objective;
+        this.islands = islands;
+        this.populationSize = populationSize;
+        this.maxGenerations = maxGenerations;
+        this.timeLimitMillis = timeLimitMillis;
+        this.seed = seed;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    // Seed formations join every island's first population; the rest is random.
+    // The first seed decides who plays (players left out of its teams stay out of the search);
+    // later seeds that placed a different set of players are skipped.
+    Result evolve(List<List<Team>> seeds) {
+        List<Team> first = seeds.get(0);
+        prepare(first);
+
+        Map<Participant, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < players.length; i++) {
+            positions.put(players[i], i);
+        }
+        List<int[]> seedGenomes = new ArrayList<>();
+        for (List<Team> formation : seeds) {
+            int[] genome = new int[players.length];
+            int mapped = 0;
+            for (int t = 0; t < formation.size() && t < teams; t++) {
+                for (Participant member : formation.get(t).getMembersView()) {
+                    Integer position = positions.get(member);
+                    if (position != null) {
+                        genome[position] = t;
+                        mapped++;
+                    }
+                }
+            }
+            if (formation.size() == teams && mapped == players.length) {
+                seedGenomes.add(genome);
+            }
+        }
+
+        SplittableRandom root = new SplittableRandom(seed);
+        Island[] archipelago = new Island[islands];
+        for (int i = 0; i < islands; i++) {
+            archipelago[i] = new Island(root.split());
+        }
+
+        long deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        int[] generationsRun = new int[1];
+        boolean[] stop = new boolean[1];
+        CyclicBarrier barrier = new CyclicBarrier(islands, () -> {
+            generationsRun[0] = archipelago[0].generation;
+            migrate(archipelago);
+            stop[0] = generationsRun[0] >= maxGenerations || System.nanoTime() > deadline;
+        });
+
+        evaluator = new ForkJoinPool(parallelism);
+        double initialCost;
+        try {
+            for (Island island : archipelago) {
+                island.initialise(seedGenomes);
+            }
+            initialCost = Double.MAX_VALUE;
+            for (int[] genome : seedGenomes) {
+                initialCost = Math.min(initialCost, evaluate(genome));
+            }
+
+            List<Thread> threads = new ArrayList<>(islands);
+            for (int i = 0; i < islands; i++) {
+                Island island = archipelago[i];
+                Thread thread = new Thread(() -> island.run(barrier, stop), "ga-island-" + i);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Genetic search interrupted", e);
+        } finally {
+            evaluator.shutdownNow();
+        }
+
+        // Lowest cost wins; ties go to the lowest island so the result stays deterministic
+        Island best = archipelago[0];
+        for (Island island : archipelago) {
+            if (island.fitness[0] < best.fitness[0]) {
+                best = island;
+            }
+        }
+        double[] islandCosts = new double[islands];
+        for (int i = 0; i < islands; i++) {
+            islandCosts[i] = archipelago[i].fitness[0];
+        }
+        return new Result(buildTeams(best.population[0]), generationsRun[0], evaluations.sum(),
+                initialCost, best.fitness[0], islandCosts);
+    }
+
+    private void prepare(List<Team> formation) {
+        List<Participant> placed = new ArrayList<>();
+        for (Team team : formation) {
+            placed.addAll(team.getMembersView());
+        }
+        int n = placed.size();
+        players = placed.toArray(new Participant[0]);
+        skill = new int[n];
+        roleBit = new int[n];
+        leader = new boolean[n];
+        thinker = new boolean[n];
+        gameIndex = new int[n];
+        Map<String, Integer> gameIds = new HashMap<>();
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            Participant p = players[i];
+            skill[i] = p.getSkillLevel();
+            roleBit[i] = p.getPreferredRole().mask();
+            leader[i] = p.getPersonalityType() == PersonalityType.LEADER;
+            thinker[i] = p.getPersonalityType() == PersonalityType.THINKER;
+            gameIndex[i] = gameIds.computeIfAbsent(String.valueOf(p.getGameInterest()), g -> gameIds.size());
+            total += skill[i];
+        }
+        games = Math.max(1, gameIds.size());
+        teams = formation.size();
+        rolesNeeded = FormationObjective.rolesCoverable(teamSize);
+        mean = teams == 0 ? 0 : (double) total / teams;
+    }
+
+    // Same terms as FormationObjective.score, straight from the genome in O(players + teams x games)
+    private double evaluate(int[] genome) {
+        evaluations.increment();
+        int[] total = new int[teams];
+        int[] mask = new int[teams];
+        boolean[] hasLeader = new boolean[teams];
+        boolean[] hasThinker = new boolean[teams];
+        int[] gameCounts = new int[teams * games];
+        int overlap = 0;
+        for (int i = 0; i < genome.length; i++) {
+            int t = genome[i];
+            total[t] += skill[i];
+            mask[t] |= roleBit[i];
+            hasLeader[t] |= leader[i];
+            hasThinker[t] |= thinker[i];
+            if (++gameCounts[t * games + gameIndex[i]] > FormationObjective.MAX_SAME_GAME) {
+                overlap++;
+            }
+        }
+
+        double deviation = 0;
+        int missing = 0;
+        int withoutLeader = 0;
+        int withoutThinker = 0;
+        for (int t = 0; t < teams; t++) {
+            double d = total[t] - mean;
+            deviation += d * d;
+            missing += Math.max(0, rolesNeeded - Integer.bitCount(mask[t]));
+            if (!hasLeader[t]) withoutLeader++;
+            if (!hasThinker[t]) withoutThinker++;
+        }
+        return objective.cost(deviation, missing, withoutLeader, withoutThinker, overlap);
+    }
+
+    // Runs as the barrier action, so every island is parked while genomes move
+    private void migrate(Island[] archipelago) {
+        if (archipelago.length < 2) {
+            return;
+        }
+        int[][][] emigrants = new int[archipelago.length][MIGRANTS][];
+        double[][] emigrantFitness = new double[archipelago.length][MIGRANTS];
+        for (int i = 0; i < archipelago.length; i++) {
+            for (int m = 0; m < MIGRANTS; m++) {
+                emigrants[i][m] = archipelago[i].population[m].clone();
+                emigrantFitness[i][m] = archipelago[i].fitness[m];
+            }
+        }
+        for (int i = 0; i < archipelago.length; i++) {
+            Island target = archipelago[(i + 1) % archipelago.length];
+            for (int m = 0; m < MIGRANTS; m++) {
+                int slot = populationSize - 1 - m;
+                target.population[slot] = emigrants[i][m];
+                target.fitness[slot] = emigrantFitness[i][m];
+            }
+            target.sortByFitness();
+        }
+    }
+
+    private List<Team> buildTeams(int[] genome) {
+        List<Team> result = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) {
+            result.add(new Team("T" + (t + 1), "Team " + (t + 1)));
+        }
+        for (int i = 0; i < genome.length; i++) {
+            result.get(genome[i]).addMember(players[i]);
+        }
+        return result;
+    }
+
+    private final class Island {
+        private final SplittableRandom random;
+        private int[][] population;
+        private double[] fitness;
+        private int generation;
+
+        Island(SplittableRandom random) {
+            this.random = random;
+        }
+
+        void initialise(List<int[]> seedGenomes) {
+            population = new int[populationSize][];
+            for (int i = 0; i < populationSize; i++) {
+                if (i < seedGenomes.size()) {
+                    population[i] = seedGenomes.get(i).clone();
+                } else {
+                    // Shuffle a seed: still exactly teamSize players per team
+                    int[] genome = seedGenomes.get(0).clone();
+                    for (int j = genome.length - 1; j > 0; j--) {
+                        int k = random.nextInt(j + 1);
+                        int tmp = genome[j];
+                        genome[j] = genome[k];
+                        genome[k] = tmp;
+                    }
+                    population[i] = genome;
+                }
+            }
+            fitness = new double[populationSize];
+            evaluateAll(population, fitness);
+            sortByFitness();
+        }
+
+        void run(CyclicBarrier barrier, boolean[] stop) {
+            try {
+                while (true) {
+                    for (int g = 0; g < MIGRATION_INTERVAL && generation < maxGenerations; g++) {
+                        step();
+                    }
+                    barrier.await();
+                    if (stop[0]) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (BrokenBarrierException e) {
+                // Another island failed; nothing left to synchronise with
+            }
+        }
+
+        // One generation: elites survive, the rest are bred from tournament winners
+        private void step() {
+            int[][] next = new int[populationSize][];
+            double[] nextFitness = new double[populationSize];
+            for (int i = 0; i < ELITES; i++) {
+                next[i] = population[i];
+                nextFitness[i] = fitness[i];
+            }
+            int[][] offspring = new int[populationSize - ELITES][];
+            for (int i = 0; i < offspring.length; i++) {
+                int[] child = crossover(population[select()], population[select()]);
+                if (random.nextDouble() < MUTATION_RATE) {
+                    mutate(child);
+                }
+                offspring[i] = child;
+            }
+            double[] offspringFitness = new double[offspring.length];
+            evaluateAll(offspring, offspringFitness);
+            System.arraycopy(offspring, 0, next, ELITES, offspring.length);
+            System.arraycopy(offspringFitness, 0, nextFitness, ELITES, offspring.length);
+
+            population = next;
+            fitness = nextFitness;
+            sortByFitness();
+            generation++;
+        }
+
+        private void evaluateAll(int[][] genomes, double[] out) {
+            // Fitness is a pure function of the genome, so evaluation order does not affect the result
+            evaluator.submit(() -> IntStream.range(0, genomes.length).parallel()
+                    .forEach(i -> out[i] = evaluate(genomes[i]))).join();
+        }
+
+        private int select() {
+            int best = random.nextInt(populationSize);
+            for (int i = 1; i < TOURNAMENT; i++) {
+                int challenger = random.nextInt(populationSize);
+                if (fitness[challenger] < fitness[best]) {
+                    best = challenger;
+                }
+            }
+            return best;
+        }
+
+        // Uniform crossover, then repair: surplus players of overfull teams move to short teams
+        private int[] crossover(int[] a, int[] b) {
+            int n = a.length;
+            int[] child = new int[n];
+            int[] size = new int[teams];
+            for (int i = 0; i < n; i++) {
+                child[i] = random.nextBoolean() ? a[i] : b[i];
+                size[child[i]]++;
+            }
+
+            int[] surplus = new int[n];
+            int surplusCount = 0;
+            int start = random.nextInt(n);
+            for (int k = 0; k < n; k++) {
+                int i = (start + k) % n;
+                if (size[child[i]] > teamSize) {
+                    size[child[i]]--;
+                    surplus[surplusCount++] = i;
+                }
+            }
+            int t = 0;
+            for (int s = 0; s < surplusCount; s++) {
+                while (size[t] >= teamSize) {
+                    t++;
+                }
+                child[surplus[s]] = t;
+                size[t]++;
+            }
+            return child;
+        }
+
+        private void mutate(int[] genome) {
+            int i = random.nextInt(genome.length);
+            int j = random.nextInt(genome.length);
+            for (int attempts = 0; genome[i] == genome[j] && attempts < 8; attempts++) {
+                j = random.nextInt(genome.length);
+            }
+            int tmp = genome[i];
+            genome[i] = genome[j];
+            genome[j] = tmp;
+        }
+
+        void sortByFitness() {
+            Integer[] order = new Integer[populationSize];
+            for (int i = 0; i < populationSize; i++) {
+                order[i] = i;
+            }
+            // Stable sort, so equal fitness keeps its previous order
+            Arrays.sort(order, (x, y) -> Double.compare(fitness[x], fitness[y]));
+            int[][] sorted = new int[populationSize][];
+            double[] sortedFitness = new double[populationSize];
+            for (int i = 0; i < populationSize; i++) {
+                sorted[i] = population[order[i]];
+                sortedFitness[i] = fitness[order[i]];
+            }
+            population = sorted;
+            fitness = sortedFitness;
+        }
+    }
+
+    static final class Result {
+        private final List<Team> teams;
+        private final int generations;
+        private final long evaluations;
+        private final double initialCost;
+        private final double cost;
+        private final double[] islandCosts;
+
+        Result(List<Team> teams, int generations, long evaluations, double initialCost, double cost,
+               double[] islandCosts) {
+            this.teams = Collections.unmodifiableList(teams);
+            this.generations = generations;
+            this.evaluations = evaluations;
+            this.initialCost = initialCost;
+            this.cost = cost;
+            this.islandCosts = islandCosts;
+        }
+
+        List<Team> getTeams() { return teams; }
+        int getGenerations() { return generations; }
+        long getEvaluations() { return evaluations; }
+        double getInitialCost() { return initialCost; }
+        double getCost() { return cost; }
+        // Best cost on each island after the final migration
+        double[] getIslandCosts() { return islandCosts.clone(); }
+    }
+}
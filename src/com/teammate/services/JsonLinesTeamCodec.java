@@ -0,0 +1,279 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import com.teammate.models.TeamRecord;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// One JSON object per line:
+// {"teamId":"T1","teamName":"Team 1","averageSkill":6.4,"memberIds":["P0001","P0002"]}
+public class JsonLinesTeamCodec implements TeamExporter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void export(List<Team> teams, Path file) throws IOException {
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            write(teams, writer);
+        }
+    }
+
+    public void write(List<Team> teams, Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder(256);
+        for (Team team : teams) {
+            line.setLength(0);
+            line.append("{\"teamId\":");
+            appendString(line, team.getTeamId());
+            line.append(",\"teamName\":");
+            appendString(line, team.getTeamName());
+            line.append(",\"averageSkill\":").append(team.getAverageSkill());
+            line.append(",\"memberIds\":[");
+            List<Participant> members = team.getMembersView();
+            for (int i = 0; i < members.size(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                appendString(line, members.get(i).getParticipantId());
+            }
+            line.append("]}\n");
+            writer.append(line);
+        }
+    }
+
+    public static List<TeamRecord> read(Path file) throws IOException {
+        List<TeamRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(new LineParser(line).parseRecord());
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid team JSON at line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        }
+        return records;
+    }
+
+    private static void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+
+    // Minimal parser for the objects written above; unknown keys are skipped, whatever their value
+    private static class LineParser {
+        private final String text;
+        private int pos;
+
+        LineParser(String text) {
+            this.text = text;
+        }
+
+        TeamRecord parseRecord() {
+            String teamId = null;
+            String teamName = null;
+            List<String> memberIds = new ArrayList<>();
+
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+            } else {
+                while (true) {
+                    String key = parseString();
+                    if (key == null) {
+                        throw error("expected a key");
+                    }
+                    expect(':');
+                    skipWhitespace();
+                    switch (key) {
+                        case "teamId": teamId = parseString(); break;
+                        case "teamName": teamName = parseString(); break;
+                        case "memberIds": parseStringArray(memberIds); break;
+                        default: skipValue();
+                    }
+                    skipWhitespace();
+                    char c = next();
+                    if (c == '}') break;
+                    if (c != ',') throw error("expected ',' or '}'");
+                    skipWhitespace();
+                }
+            }
+            if (teamId == null) {
+                throw error("missing teamId");
+            }
+            return new TeamRecord(teamId, teamName, memberIds);
+        }
+
+        private void parseStringArray(List<String> into) {
+            expect('[');
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return;
+            }
+            while (true) {
+                skipWhitespace();
+                into.add(parseString());
+                skipWhitespace();
+                char c = next();
+                if (c == ']') return;
+                if (c != ',') throw error("expected ',' or ']'");
+            }
+        }
+
+        private String parseString() {
+            skipWhitespace();
+            if (text.startsWith("null", pos)) {
+                pos += 4;
+                return null;
+            }
+            expect('"');
+            int start = pos;
+            // Fast path: no escapes means one substring
+            while (pos < text.length() && text.charAt(pos) != '"' && text.charAt(pos) != '\\') {
+                pos++;
+            }
+            if (pos < text.length() && text.charAt(pos) == '"') {
+                return text.substring(start, pos++);
+            }
+            StringBuilder sb = new StringBuilder(text.substring(start, pos));
+            while (true) {
+                char c = next();
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    case 't': sb.append('\t'); break;
+                    case 'b': sb.append('\b'); break;
+                    case 'f': sb.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > text.length()) throw error("bad unicode escape");
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default: sb.append(escaped);
+                }
+            }
+        }
+
+        // Any JSON value, including nested objects and arrays of any element type
+        private void skipValue() {
+            skipWhitespace();
+            char c = peek();
+            if (c == '"') {
+                parseString();
+            } else if (c == '{') {
+                pos++;
+                skipWhitespace();
+                if (peek() == '}') {
+                    pos++;
+                    return;
+                }
+                while (true) {
+                    if (parseString() == null) {
+                        throw error("expected a key");
+                    }
+                    expect(':');
+                    skipValue();
+                    skipWhitespace();
+                    char d = next();
+                    if (d == '}') return;
+                    if (d != ',') throw error("expected ',' or '}'");
+                }
+            } else if (c == '[') {
+                pos++;
+                skipWhitespace();
+                if (peek() == ']') {
+                    pos++;
+                    return;
+                }
+                while (true) {
+                    skipValue();
+                    skipWhitespace();
+                    char d = next();
+                    if (d == ']') return;
+                    if (d != ',') throw error("expected ',' or ']'");
+                }
+            } else {
+                // Number, true, false or null
+                int start = pos;
+                while (pos < text.length() && ",}]".indexOf(text.charAt(pos)) < 0
+                        && !Character.isWhitespace(text.charAt(pos))) {
+                    pos++;
+                }
+                if (pos == start) {
+                    throw error("expected a value");
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            skipWhitespace();
+            if (next() != expected) {
+                throw error("expected '" + expected + "'");
+            }
+        }
+
+        private char next() {
+            if (pos >= text.length()) {
+                throw error("unexpected end of line");
+            }
+            return text.charAt(pos++);
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at column " + (pos + 1));
+        }
+    }
+}
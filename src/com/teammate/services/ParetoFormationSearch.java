@@ -0,0 +1,193 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Finds formations that are not dominated on skill variance, missing roles and game overlap.
+// Candidates come from the greedy strategies plus one genetic run per weighting of those three
+// terms (the Leader/Thinker weights stay fixed); the runs are independent and share a thread pool.
+// Leader/Thinker rules are treated as constraints: only candidates with the fewest violations
+// compete. The survivors are ranked with the fast non-dominated sort (Deb et al., NSGA-II) and
+// the first front is returned, one formation per distinct objective vector.
+class ParetoFormationSearch {
+    private static final double[] SKILL_WEIGHTS = {0.2, 1.0, 5.0};
+    private static final double[] ROLE_WEIGHTS = {0.0, 25.0, 100.0};
+    private static final double[] GAME_WEIGHTS = {0.0, 25.0, 100.0};
+    private static final int POPULATION = 32;
+
+    private final int teamSize;
+    private final int generations;
+    private final long timeLimitMillis;
+    private final long seed;
+    private final int parallelism;
+
+    ParetoFormationSearch(int teamSize, int generations, long timeLimitMillis, long seed, int parallelism) {
+        this.teamSize = teamSize;
+        this.generations = generations;
+        this.timeLimitMillis = timeLimitMillis;
+        this.seed = seed;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    List<Candidate> search(List<Participant> participants) {
+        List<Team> skillBalanced = new SkillBalancer(teamSize).form(participants);
+        List<Team> roleCovering = new RoleCoverageOptimizer(teamSize).form(participants);
+        List<List<Team>> seeds = List.of(skillBalanced, roleCovering);
+
+        List<Candidate> candidates = new ArrayList<>();
+        candidates.add(new Candidate("skill-balanced greedy", skillBalanced));
+        candidates.add(new Candidate("role-coverage greedy", roleCovering));
+
+        FormationObjective base = FormationObjective.DEFAULT;
+        List<FormationObjective> weightings = new ArrayList<>();
+        for (double skill : SKILL_WEIGHTS) {
+            for (double role : ROLE_WEIGHTS) {
+                for (double game : GAME_WEIGHTS) {
+                    weightings.add(new FormationObjective(skill, role, base.getLeaderWeight(),
+                            base.getThinkerWeight(), game));
+                }
+            }
+        }
+        // Runs share the cores, so together they stay close to the overall time limit
+        long runLimit = Math.max(200, timeLimitMillis * parallelism / weightings.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, weightings.size()));
+        try {
+            List<Future<List<Team>>> runs = new ArrayList<>(weightings.size());
+            for (int i = 0; i < weightings.size(); i++) {
+                GeneticFormationEngine engine = new GeneticFormationEngine(teamSize, weightings.get(i), 1, POPULATION,
+                        generations, runLimit, seed + i, 1);
+                runs.add(executor.submit(() -> engine.evolve(seeds).getTeams()));
+            }
+            for (int i = 0; i < runs.size(); i++) {
+                FormationObjective w = weightings.get(i);
+                String label = String.format("weights skill %s, roles %s, games %s",
+                        trim(w.getSkillWeight()), trim(w.getRoleWeight()), trim(w.getGameWeight()));
+                candidates.add(new Candidate(label, runs.get(i).get()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Pareto search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Pareto search failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int fewestViolations = Integer.MAX_VALUE;
+        for (Candidate c : candidates) {
+            fewestViolations = Math.min(fewestViolations, c.violations());
+        }
+        List<Candidate> feasible = new ArrayList<>();
+        for (Candidate c : candidates) {
+            if (c.violations() == fewestViolations && !sameObjectives(feasible, c)) {
+                feasible.add(c);
+            }
+        }
+
+        List<Candidate> front = nonDominatedFronts(feasible).get(0);
+        front.sort((a, b) -> Double.compare(a.objectives[0], b.objectives[0]));
+        return front;
+    }
+
+    // Fast non-dominated sort: O(M N^2) comparisons, fronts in rank order
+    static List<List<Candidate>> nonDominatedFronts(List<Candidate> candidates) {
+        int n = candidates.size();
+        List<List<Integer>> dominates = new ArrayList<>(n);
+        int[] dominatedBy = new int[n];
+        List<List<Candidate>> fronts = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+
+        for (int p = 0; p < n; p++) {
+            dominates.add(new ArrayList<>());
+        }
+        for (int p = 0; p < n; p++) {
+            for (int q = p + 1; q < n; q++) {
+                double[] a = candidates.get(p).objectives;
+                double[] b = candidates.get(q).objectives;
+                if (dominates(a, b)) {
+                    dominates.get(p).add(q);
+                    dominatedBy[q]++;
+                } else if (dominates(b, a)) {
+                    dominates.get(q).add(p);
+                    dominatedBy[p]++;
+                }
+            }
+        }
+        for (int p = 0; p < n; p++) {
+            if (dominatedBy[p] == 0) {
+                current.add(p);
+            }
+        }
+
+        while (!current.isEmpty()) {
+            List<Candidate> front = new ArrayList<>(current.size());
+            List<Integer> next = new ArrayList<>();
+            for (int p : current) {
+                front.add(candidates.get(p));
+                for (int q : dominates.get(p)) {
+                    if (--dominatedBy[q] == 0) {
+                        next.add(q);
+                    }
+                }
+            }
+            fronts.add(front);
+            current = next;
+        }
+        return fronts;
+    }
+
+    // a is no worse on every objective and strictly better on at least one (all minimised)
+    private static boolean dominates(double[] a, double[] b) {
+        boolean better = false;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] > b[i]) {
+                return false;
+            }
+            if (a[i] < b[i]) {
+                better = true;
+            }
+        }
+        return better;
+    }
+
+    private static boolean sameObjectives(List<Candidate> kept, Candidate c) {
+        for (Candidate other : kept) {
+            if (Arrays.equals(other.objectives, c.objectives)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String trim(double weight) {
+        return weight == Math.rint(weight) ? String.valueOf((long) weight) : String.valueOf(weight);
+    }
+
+    static final class Candidate {
+        final String label;
+        final List<Team> teams;
+        final FormationObjective.Score score;
+        // skill variance, missing roles, game overlap
+        final double[] objectives;
+
+        Candidate(String label, List<Team> teams) {
+            this.label = label;
+            this.teams = teams;
+            this.score = FormationObjective.score(teams);
+            this.objectives = new double[] {score.getSkillVariance(), score.getMissingRoles(), score.getGameOverlap()};
+        }
+
+        int violations() {
+            return score.getTeamsWithoutLeader() + score.getTeamsWithoutThinker();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.LazyText;
+import com.teammate.models.Participant;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Reads a plain participants CSV for formation-only work. Rows are split and validated on raw bytes:
+// ID, game, skill, role and personality score are parsed, while name and email are only checked
+// and left in the read buffer as LazyText, so a million-row roster costs one String per row (the ID)
+// instead of a split array plus seven substrings.
+//
+// Chunks are heap copies, not memory-mapped: players.csv is rewritten in place by survey updates,
+// and a mapping would fault once the file shrank under a participant that still points into it.
+// Each chunk is a fresh array because the participants read from it keep referencing it.
+final class ProjectedParticipantReader {
+    static final int CHUNK_SIZE = 1 << 22;
+    private static final int FIELDS = 7;
+    private static final byte[] EMAIL_DOMAIN = "@iit.ac.lk".getBytes(StandardCharsets.US_ASCII);
+    private static final GameRole[] ROLES = GameRole.values();
+    private static final byte[][] GAME_NAMES = ValidationService.VALID_GAMES.stream()
+            .map(g -> g.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    private final int chunkSize;
+    private final List<Participant> participants = new ArrayList<>();
+    private final FieldInterner interner = new FieldInterner();
+    private final int[] fieldStart = new int[FIELDS];
+    private final int[] fieldEnd = new int[FIELDS];
+    private int lineNumber;
+    private int rejected;
+    private long bytesRead;
+
+    ProjectedParticipantReader() {
+        this(CHUNK_SIZE);
+    }
+
+    ProjectedParticipantReader(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    List<Participant> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            byte[] buffer = new byte[chunkSize];
+            int filled = 0;
+            boolean eof = false;
+            while (true) {
+                while (filled < buffer.length && !eof) {
+                    int n = channel.read(ByteBuffer.wrap(buffer, filled, buffer.length - filled));
+                    if (n < 0) {
+                        eof = true;
+                    } else {
+                        filled += n;
+                        bytesRead += n;
+                    }
+                }
+
+                int end = eof ? filled : lastNewline(buffer, filled) + 1;
+                if (end == 0 && !eof) {
+                    // One row longer than the whole chunk: grow and keep reading
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+                parseLines(buffer, end);
+                if (eof) {
+                    return participants;
+                }
+
+                byte[] next = new byte[Math.max(chunkSize, filled - end + 1)];
+                System.arraycopy(buffer, end, next, 0, filled - end);
+                filled -= end;
+                buffer = next;
+            }
+        }
+    }
+
+    int getRejectedCount() {
+        return rejected;
+    }
+
+    long getBytesRead() {
+        return bytesRead;
+    }
+
+    private static int lastNewline(byte[] buffer, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (buffer[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private void parseLines(byte[] buffer, int limit) {
+        // One wrapper per chunk, shared by the LazyText of every row in it
+        ByteBuffer shared = ByteBuffer.wrap(buffer);
+        int start = 0;
+        while (start < limit) {
+            int end = start;
+            while (end < limit && buffer[end] != '\n') end++;
+            int next = end + 1;
+            if (end > start && buffer[end - 1] == '\r') end--;
+
+            lineNumber++;
+            if (lineNumber > 1 && !isBlank(buffer, start, end)) {
+                try {
+                    participants.add(parseRow(buffer, shared, start, end));
+                } catch (Exception e) {
+                    System.err.println("❌ Skipping invalid data at line " + lineNumber + ": " + e.getMessage());
+                    rejected++;
+                }
+            }
+            start = next;
+        }
+    }
+
+    // Same rules and messages as FileHandler.parseParticipant
+    private Participant parseRow(byte[] b, ByteBuffer shared, int start, int end) throws Exception {
+        int fields = 0;
+        int fieldBegin = start;
+        for (int i = start; i <= end && fields < FIELDS; i++) {
+            if (i == end || b[i] == ',') {
+                fieldStart[fields] = trimStart(b, fieldBegin, i);
+                fieldEnd[fields] = trimEnd(b, fieldStart[fields], i);
+                fields++;
+                fieldBegin = i + 1;
+            }
+        }
+        if (fields < FIELDS) {
+            throw new Exception("Insufficient data fields. Expected 7, got " + fields +
+                    "\n   Format: ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore");
+        }
+
+        int skillLevel = parseInt(b, fieldStart[4], fieldEnd[4]);
+        GameRole role = parseRole(b, fieldStart[5], fieldEnd[5]);
+        int personalityScore = parseInt(b, fieldStart[6], fieldEnd[6]);
+
+        if (fieldEnd[1] == fieldStart[1]) {
+            throw new Exception("Name cannot be empty");
+        }
+        if (!isValidEmail(b, fieldStart[2], fieldEnd[2])) {
+            throw new Exception("Invalid email domain. Must be @iit.ac.lk: " + text(b, 2));
+        }
+        if (skillLevel < 1 || skillLevel > 10) {
+            throw new Exception("Skill level must be between 1-10: " + skillLevel);
+        }
+        if (personalityScore < 50 || personalityScore > 100) {
+            throw new Exception("Personality score must be between 50-100: " + personalityScore);
+        }
+
+        return Participant.projected(text(b, 0),
+                new LazyText(shared, fieldStart[1], fieldEnd[1] - fieldStart[1]),
+                new LazyText(shared, fieldStart[2], fieldEnd[2] - fieldStart[2]),
+                game(b, fieldStart[3], fieldEnd[3]), skillLevel, role, personalityScore);
+    }
+
+    private String text(byte[] b, int field) {
+        return new String(b, fieldStart[field], fieldEnd[field] - fieldStart[field], StandardCharsets.UTF_8);
+    }
+
+    // A VALID_GAMES constant when the bytes name one, so rows share the canonical strings
+    private String game(byte[] b, int start, int end) {
+        for (int g = 0; g < GAME_NAMES.length; g++) {
+            if (equalsIgnoreCase(b, start, end, GAME_NAMES[g])) {
+                return ValidationService.VALID_GAMES.get(g);
+            }
+        }
+        return interner.intern(new String(b, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    private static GameRole parseRole(byte[] b, int start, int end) throws Exception {
+        for (GameRole role : ROLES) {
+            String name = role.name();
+            if (name.length() != end - start) continue;
+            int i = 0;
+            while (i < name.length() && toUpper(b[start + i]) == name.charAt(i)) i++;
+            if (i == name.length()) return role;
+        }
+        throw new Exception("Invalid role. Valid roles: " + Arrays.toString(ROLES));
+    }
+
+    private static int parseInt(byte[] b, int start, int end) throws Exception {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        // Ten digits can overflow an int; ranges here are tiny, so treat anything longer as malformed
+        if (i == end || end - i > 9) {
+            throw new Exception("Invalid number format in skill level or personality score");
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = b[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new Exception("Invalid number format in skill level or personality score");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // Byte form of ValidationService.EMAIL_PATTERN: ^[A-Za-z0-9+_.-]+@iit\.ac\.lk$, case-insensitive
+    private static boolean isValidEmail(byte[] b, int start, int end) {
+        int local = end - EMAIL_DOMAIN.length;
+        if (local <= start || !equalsIgnoreCase(b, local, end, EMAIL_DOMAIN)) {
+            return false;
+        }
+        for (int i = start; i < local; i++) {
+            byte c = b[i];
+            boolean ok = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '+' || c == '_' || c == '.' || c == '-';
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(byte[] b, int start, int end, byte[] ascii) {
+        if (end - start != ascii.length) return false;
+        for (int i = 0; i < ascii.length; i++) {
+            if (toUpper(b[start + i]) != toUpper(ascii[i])) return false;
+        }
+        return true;
+    }
+
+    private static int toUpper(byte c) {
+        return (c >= 'a' && c <= 'z') ? c - ('a' - 'A') : c;
+    }
+
+    // String.trim() semantics: drop control characters and spaces, but never UTF-8 continuation bytes
+    private static int trimStart(byte[] b, int start, int end) {
+        while (start < end && (b[start] & 0xff) <= ' ') start++;
+        return start;
+    }
+
+    private static int trimEnd(byte[] b, int start, int end) {
+        while (end > start && (b[end - 1] & 0xff) <= ' ') end--;
+        return end;
+    }
+
+    private static boolean isBlank(byte[] b, int start, int end) {
+        return trimStart(b, start, end) == end;
+    }
+}
@@ -0,0 +1,196 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+// Formation that maximises GameRole coverage per team. Every team keeps a 5-bit role mask
+// (Team.getRoleMask), so "does this team still need an Attacker?" is a single AND.
+// For each phase there is one queue per role holding the teams that still lack it;
+// a participant takes the first team from their role's queue that is still open and
+// still lacks the role (stale entries are simply dropped), so each placement is O(1) amortized.
+//
+// Phases keep the builder's personality rules: one leader per team, then one thinker per team,
+// then everyone else. Participants that would only duplicate a role wait until every
+// coverage-improving placement is done and then fill the remaining spots round-robin.
+class RoleCoverageOptimizer {
+    private static final GameRole[] ROLES = GameRole.values();
+
+    private final int teamSize;
+
+    RoleCoverageOptimizer(int teamSize) {
+        this.teamSize = teamSize;
+    }
+
+    List<Team> form(List<Participant> participants) {
+        int totalTeams = participants.size() / teamSize;
+        Team[] teams = new Team[totalTeams];
+        for (int i = 0; i < totalTeams; i++) {
+            teams[i] = new Team("T" + (i + 1), "Team " + (i + 1));
+        }
+
+        List<Participant> leaders = new ArrayList<>();
+        List<Participant> thinkers = new ArrayList<>();
+        List<Participant> rest = new ArrayList<>();
+        for (Participant p : participants) {
+            switch (p.getPersonalityType()) {
+                case LEADER: leaders.add(p); break;
+                case THINKER: thinkers.add(p); break;
+                default: rest.add(p);
+            }
+        }
+
+        // Phases 1 and 2: one leader, then one thinker, per team, each onto a team missing their role
+        List<Participant> unplaced = new ArrayList<>();
+        seedOnePerTeam(teams, interleaveByRole(leaders), unplaced);
+        seedOnePerTeam(teams, interleaveByRole(thinkers), unplaced);
+
+        // Phase 3: everyone else goes where their role is missing; duplicates wait
+        rest.addAll(unplaced);
+        List<Participant> duplicates = new ArrayList<>();
+        IntQueue[] lacking = lackingQueues(teams);
+        for (Participant p : interleaveByRole(rest)) {
+            int team = pollLacking(lacking[p.getPreferredRole().ordinal()], teams, p.getPreferredRole(), null);
+            if (team >= 0) {
+                teams[team].addMember(p);
+            } else {
+                duplicates.add(p);
+            }
+        }
+
+        // Phase 4: fill whatever is left, round-robin over open teams
+        IntQueue open = new IntQueue(totalTeams + duplicates.size());
+        for (int i = 0; i < totalTeams; i++) {
+            if (teams[i].getSize() < teamSize) {
+                open.add(i);
+            }
+        }
+        for (Participant p : duplicates) {
+            if (open.isEmpty()) {
+                break;
+            }
+            int team = open.poll();
+            teams[team].addMember(p);
+            if (teams[team].getSize() < teamSize) {
+                open.add(team);
+            }
+        }
+
+        return new ArrayList<>(List.of(teams));
+    }
+
+    // Gives at most one member of this group to each team; members who do not fit go to overflow
+    private void seedOnePerTeam(Team[] teams, List<Participant> group, List<Participant> overflow) {
+        boolean[] seeded = new boolean[teams.length];
+        IntQueue[] lacking = lackingQueues(teams);
+        IntQueue any = new IntQueue(teams.length);
+        for (int i = 0; i < teams.length; i++) {
+            if (teams[i].getSize() < teamSize) {
+                any.add(i);
+            }
+        }
+
+        for (Participant p : group) {
+            GameRole role = p.getPreferredRole();
+            int team = pollLacking(lacking[role.ordinal()], teams, role, seeded);
+            if (team < 0) {
+                // Nobody lacks this role any more: any team still waiting for one of this group
+                while (!any.isEmpty() && seeded[any.peek()]) {
+                    any.poll();
+                }
+                team = any.isEmpty() ? -1 : any.poll();
+            }
+            if (team < 0) {
+                overflow.add(p);
+                continue;
+            }
+            teams[team].addMember(p);
+            seeded[team] = true;
+        }
+    }
+
+    // First team in the queue that is open, lacks the role and (if given) is not yet seeded
+    private int pollLacking(IntQueue queue, Team[] teams, GameRole role, boolean[] seeded) {
+        while (!queue.isEmpty()) {
+            int team = queue.poll();
+            if (teams[team].getSize() < teamSize && !teams[team].hasRole(role)
+                    && (seeded == null || !seeded[team])) {
+                return team;
+            }
+        }
+        return -1;
+    }
+
+    private IntQueue[] lackingQueues(Team[] teams) {
+        IntQueue[] lacking = new IntQueue[ROLES.length];
+        for (GameRole role : ROLES) {
+            IntQueue queue = new IntQueue(teams.length);
+            for (int i = 0; i < teams.length; i++) {
+                if (teams[i].getSize() < teamSize && !teams[i].hasRole(role)) {
+                    queue.add(i);
+                }
+            }
+            lacking[role.ordinal()] = queue;
+        }
+        return lacking;
+    }
+
+    // Round-robin across roles so consecutive placements spread roles over the teams
+    private static List<Participant> interleaveByRole(List<Participant> participants) {
+        List<ArrayDeque<Participant>> byRole = new ArrayList<>(ROLES.length);
+        for (int i = 0; i < ROLES.length; i++) {
+            byRole.add(new ArrayDeque<>());
+        }
+        for (Participant p : participants) {
+            byRole.get(p.getPreferredRole().ordinal()).add(p);
+        }
+
+        List<Participant> ordered = new ArrayList<>(participants.size());
+        while (ordered.size() < participants.size()) {
+            for (ArrayDeque<Participant> queue : byRole) {
+                Participant next = queue.poll();
+                if (next != null) {
+                    ordered.add(next);
+                }
+            }
+        }
+        return ordered;
+    }
+
+    // Fixed-capacity FIFO of team indexes; avoids boxing in the per-role queues
+    private static final class IntQueue {
+        private final int[] items;
+        private int head;
+        private int tail;
+        private int size;
+
+        IntQueue(int capacity) {
+            items = new int[Math.max(1, capacity)];
+        }
+
+        void add(int value) {
+            items[tail] = value;
+            tail = (tail + 1) % items.length;
+            size++;
+        }
+
+        int poll() {
+            int value = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return value;
+        }
+
+        int peek() {
+            return items[head];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
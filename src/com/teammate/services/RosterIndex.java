@@ -0,0 +1,188 @@
+package com.teammate.services;
+
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import com.teammate.services.RosterQuery.SortKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Secondary indexes over a roster snapshot, so filtered and paged views never scan participants.
+// Each filterable value (game, role, personality type, skill level) maps to a BitSet of roster
+// positions; a query ANDs the sets it needs and counts matches with popcount.
+//
+// Sort orders are position permutations built on first use per key and direction (names are only
+// decoded if someone sorts by name). Ties are always broken by ascending participant ID, so flipping
+// the direction never reorders equal entries. A page is then cut one of two ways:
+// - few matches: mark their ranks in a BitSet and walk it with nextSetBit, skipping the earlier
+//   pages, which costs O(matches + roster / 64) and never sorts;
+// - many matches: walk the sorted permutation and keep positions whose bit is set, which stops
+//   after roughly (page end / match ratio) steps.
+// The index is immutable once built; EventContext rebuilds it after the roster grows.
+public final class RosterIndex {
+    private static final LatencyHistogram QUERY_LATENCY = MetricsRegistry.histogram(
+            "teammate_roster_query_seconds", "Time to answer one paged roster query");
+    // Matches below 1/8 of the roster are ranked through a BitSet instead of walking the full order
+    private static final int SPARSE_DIVISOR = 8;
+
+    private final Participant[] roster;
+    private final Map<String, BitSet> byGame = new HashMap<>();
+    private final Map<GameRole, BitSet> byRole = new EnumMap<>(GameRole.class);
+    private final Map<PersonalityType, BitSet> byPersonality = new EnumMap<>(PersonalityType.class);
+    private final TreeMap<Integer, BitSet> bySkill = new TreeMap<>();
+    // orders[direction][key][rank] = roster position; ranks[direction][key][position] = rank
+    // (direction 0 = ascending, 1 = descending)
+    private final int[][][] orders = new int[2][SortKey.values().length][];
+    private final int[][][] ranks = new int[2][SortKey.values().length][];
+
+    public RosterIndex(List<Participant> participants) {
+        this.roster = participants.toArray(new Participant[0]);
+        for (int i = 0; i < roster.length; i++) {
+            Participant p = roster[i];
+            byGame.computeIfAbsent(p.getGameInterest(), g -> new BitSet(roster.length)).set(i);
+            byRole.computeIfAbsent(p.getPreferredRole(), r -> new BitSet(roster.length)).set(i);
+            byPersonality.computeIfAbsent(p.getPersonalityType(), t -> new BitSet(roster.length)).set(i);
+            bySkill.computeIfAbsent(p.getSkillLevel(), s -> new BitSet(roster.length)).set(i);
+        }
+    }
+
+    public int size() {
+        return roster.length;
+    }
+
+    public int count(RosterQuery query) {
+        BitSet matches = matches(query);
+        return matches == null ? roster.length : matches.cardinality();
+    }
+
+    // page is zero-based; a page past the end comes back empty with the real total
+    public RosterPage query(RosterQuery query, int page, int pageSize) {
+        if (page < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page " + page + " of size " + pageSize);
+        }
+        long timer = MetricsRegistry.startTimer();
+        BitSet matches = matches(query);
+        int total = matches == null ? roster.length : matches.cardinality();
+        int from = (int) Math.min((long) page * pageSize, total);
+        int to = Math.min(from + pageSize, total);
+        List<Participant> result = new ArrayList<>(to - from);
+
+        if (from < to) {
+            SortKey key = query.getSortKey();
+            int direction = query.isDescending() ? 1 : 0;
+            int[] order = order(key, direction);
+            if (matches == null) {
+                for (int r = from; r < to; r++) {
+                    result.add(roster[order[r]]);
+                }
+            } else if ((long) total * SPARSE_DIVISOR < roster.length) {
+                int[] rank = ranks[direction][key.ordinal()];
+                BitSet ranked = new BitSet(roster.length);
+                for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                    ranked.set(rank[i]);
+                }
+                int r = ranked.nextSetBit(0);
+                for (int skipped = 0; skipped < from; skipped++) {
+                    r = ranked.nextSetBit(r + 1);
+                }
+                for (int taken = from; taken < to; taken++, r = ranked.nextSetBit(r + 1)) {
+                    result.add(roster[order[r]]);
+                }
+            } else {
+                int seen = 0;
+                for (int s = 0; s < roster.length && seen < to; s++) {
+                    int i = order[s];
+                    if (matches.get(i) && seen++ >= from) {
+                        result.add(roster[i]);
+                    }
+                }
+            }
+        }
+
+        QUERY_LATENCY.recordSince(timer);
+        return new RosterPage(result, total, page, pageSize);
+    }
+
+    // Positions matching every filter, or null when the query has none
+    private BitSet matches(RosterQuery query) {
+        if (query.isUnfiltered()) {
+            return null;
+        }
+        BitSet result = null;
+        if (query.getGame() != null) {
+            result = intersect(result, byGame.get(query.getGame()));
+        }
+        if (query.getRole() != null) {
+            result = intersect(result, byRole.get(query.getRole()));
+        }
+        if (query.getPersonality() != null) {
+            result = intersect(result, byPersonality.get(query.getPersonality()));
+        }
+        if (query.hasSkillFilter()) {
+            BitSet skills = new BitSet(roster.length);
+            for (BitSet level : bySkill.subMap(query.getMinSkill(), true, query.getMaxSkill(), true).values()) {
+                skills.or(level);
+            }
+            result = intersect(result, skills);
+        }
+        return result;
+    }
+
+    private static BitSet intersect(BitSet result, BitSet index) {
+        if (index == null) {
+            return new BitSet();
+        }
+        if (result == null) {
+            return (BitSet) index.clone();
+        }
+        result.and(index);
+        return result;
+    }
+
+    private synchronized int[] order(SortKey key, int direction) {
+        int[] order = orders[direction][key.ordinal()];
+        if (order == null) {
+            Integer[] positions = new Integer[roster.length];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+            Comparator<Integer> byKey = comparator(key);
+            Arrays.sort(positions, (direction == 1 ? byKey.reversed() : byKey).thenComparing(comparator(SortKey.ID)));
+            order = new int[roster.length];
+            int[] rank = new int[roster.length];
+            for (int r = 0; r < order.length; r++) {
+                order[r] = positions[r];
+                rank[positions[r]] = r;
+            }
+            ranks[direction][key.ordinal()] = rank;
+            orders[direction][key.ordinal()] = order;
+        }
+        return order;
+    }
+
+    private Comparator<Integer> comparator(SortKey key) {
+        switch (key) {
+            case NAME:
+                return Comparator.comparing(i -> roster[i].getName(),
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+            case SKILL:
+                return Comparator.comparingInt(i -> roster[i].getSkillLevel());
+            case PERSONALITY_SCORE:
+                return Comparator.comparingInt(i -> roster[i].getPersonalityScore());
+            default:
+                // P0009 before P0010 before P10000: shorter IDs first, then lexical
+                return Comparator.<Integer>comparingInt(i -> roster[i].getParticipantId().length())
+                        .thenComparing(i -> roster[i].getParticipantId());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+
+import java.util.Collections;
+import java.util.List;
+
+// One page of a RosterIndex query plus how many participants matched in total
+public final class RosterPage {
+    private final List<Participant> participants;
+    private final int totalMatches;
+    private final int page;
+    private final int pageSize;
+
+    RosterPage(List<Participant> participants, int totalMatches, int page, int pageSize) {
+        this.participants = Collections.unmodifiableList(participants);
+        this.totalMatches = totalMatches;
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
+    public List<Participant> getParticipants() { return participants; }
+    public int getTotalMatches() { return totalMatches; }
+    public int getPage() { return page; }
+    public int getPageSize() { return pageSize; }
+
+    public int getPageCount() {
+        return (totalMatches + pageSize - 1) / pageSize;
+    }
+
+    public boolean hasNext() {
+        return (long) (page + 1) * pageSize < totalMatches;
+    }
+
+    public boolean hasPrevious() {
+        return page > 0;
+    }
+}
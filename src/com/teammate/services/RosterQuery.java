@@ -0,0 +1,78 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.PersonalityType;
+
+// Filter and sort order for RosterIndex. Immutable: each withX returns a narrowed copy, so a query
+// can be built once and reused across pages and threads. A null filter means "any".
+public final class RosterQuery {
+    public enum SortKey { ID, NAME, SKILL, PERSONALITY_SCORE }
+
+    private static final RosterQuery ALL = new RosterQuery(null, null, null, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            SortKey.ID, false);
+
+    private final String game;
+    private final GameRole role;
+    private final PersonalityType personality;
+    private final int minSkill;
+    private final int maxSkill;
+    private final SortKey sortKey;
+    private final boolean descending;
+
+    private RosterQuery(String game, GameRole role, PersonalityType personality, int minSkill, int maxSkill,
+                        SortKey sortKey, boolean descending) {
+        this.game = game;
+        this.role = role;
+        this.personality = personality;
+        this.minSkill = minSkill;
+        this.maxSkill = maxSkill;
+        this.sortKey = sortKey;
+        this.descending = descending;
+    }
+
+    // Every participant, in ID order
+    public static RosterQuery all() {
+        return ALL;
+    }
+
+    public RosterQuery withGame(String newGame) {
+        return new RosterQuery(ValidationService.normalizeGameName(newGame), role, personality, minSkill, maxSkill,
+                sortKey, descending);
+    }
+
+    public RosterQuery withRole(GameRole newRole) {
+        return new RosterQuery(game, newRole, personality, minSkill, maxSkill, sortKey, descending);
+    }
+
+    public RosterQuery withPersonality(PersonalityType newPersonality) {
+        return new RosterQuery(game, role, newPersonality, minSkill, maxSkill, sortKey, descending);
+    }
+
+    // Inclusive on both ends
+    public RosterQuery withSkillBetween(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Minimum skill " + min + " is above maximum " + max);
+        }
+        return new RosterQuery(game, role, personality, min, max, sortKey, descending);
+    }
+
+    public RosterQuery sortedBy(SortKey key, boolean newDescending) {
+        return new RosterQuery(game, role, personality, minSkill, maxSkill, key, newDescending);
+    }
+
+    public String getGame() { return game; }
+    public GameRole getRole() { return role; }
+    public PersonalityType getPersonality() { return personality; }
+    public int getMinSkill() { return minSkill; }
+    public int getMaxSkill() { return maxSkill; }
+    public SortKey getSortKey() { return sortKey; }
+    public boolean isDescending() { return descending; }
+
+    boolean hasSkillFilter() {
+        return minSkill != Integer.MIN_VALUE || maxSkill != Integer.MAX_VALUE;
+    }
+
+    boolean isUnfiltered() {
+        return game == null && role == null && personality == null && !hasSkillFilter();
+    }
+}
@@ -0,0 +1,86 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Greedy skill partitioner (longest-processing-time rule, the one-pass cousin of Karmarkar-Karp):
+// participants are taken in descending skill order from counting-sort buckets and each goes to the
+// open team with the lowest total skill, kept in a min-heap. Leaders are placed first (one per
+// team while they last), then thinkers (one per team while they last), then everyone else.
+// Cost is O(n log T) for n participants and T teams.
+class SkillBalancer {
+    private final int teamSize;
+
+    SkillBalancer(int teamSize) {
+        this.teamSize = teamSize;
+    }
+
+    List<Team> form(List<Participant> participants) {
+        int totalTeams = participants.size() / teamSize;
+        List<Team> teams = new ArrayList<>(totalTeams);
+        for (int i = 0; i < totalTeams; i++) {
+            teams.add(new Team("T" + (i + 1), "Team " + (i + 1)));
+        }
+
+        CandidateBuckets<Participant> leaders = CandidateBuckets.bySkill();
+        CandidateBuckets<Participant> thinkers = CandidateBuckets.bySkill();
+        CandidateBuckets<Participant> rest = CandidateBuckets.bySkill();
+        for (Participant p : participants) {
+            switch (p.getPersonalityType()) {
+                case LEADER: leaders.add(p); break;
+                case THINKER: thinkers.add(p); break;
+                default: rest.add(p);
+            }
+        }
+
+        // Phases 1 and 2: at most one leader, then one thinker, per team; strongest first onto the weakest team
+        seedOnePerTeam(teams, leaders);
+        seedOnePerTeam(teams, thinkers);
+
+        // Phase 3: everyone left, strongest first, always onto the open team with the lowest total
+        List<Participant> remaining = new ArrayList<>(leaders.size() + thinkers.size() + rest.size());
+        leaders.drainDescending(remaining);
+        thinkers.drainDescending(remaining);
+        rest.addAll(remaining);
+
+        PriorityQueue<Team> open = newHeap(teams.size());
+        for (Team team : teams) {
+            if (team.getSize() < teamSize) {
+                open.add(team);
+            }
+        }
+        while (!rest.isEmpty() && !open.isEmpty()) {
+            Team weakest = open.poll();
+            weakest.addMember(rest.pollHighest());
+            if (weakest.getSize() < teamSize) {
+                open.add(weakest);
+            }
+        }
+        return teams;
+    }
+
+    private void seedOnePerTeam(List<Team> teams, CandidateBuckets<Participant> candidates) {
+        PriorityQueue<Team> eligible = newHeap(teams.size());
+        for (Team team : teams) {
+            if (team.getSize() < teamSize) {
+                eligible.add(team);
+            }
+        }
+        // Each team is polled once, so it receives at most one member from this group
+        while (!candidates.isEmpty() && !eligible.isEmpty()) {
+            eligible.poll().addMember(candidates.pollHighest());
+        }
+    }
+
+    // Lowest total skill first; ties go to the team with fewer members
+    private static PriorityQueue<Team> newHeap(int capacity) {
+        return new PriorityQueue<>(Math.max(1, capacity), (a, b) -> {
+            int bySkill = Integer.compare(a.getTotalSkill(), b.getTotalSkill());
+            return bySkill != 0 ? bySkill : Integer.compare(a.getSize(), b.getSize());
+        });
+    }
+}
@@ -0,0 +1,258 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+// Tails the survey file: only bytes appended since the last read are parsed, and the
+// participants found there are pushed to a queue for the organizer to pick up.
+// The read position is checkpointed to "<file>.offset", together with a CRC of the line that ends
+// at that position, only once the caller confirms the drained participants were imported; rows that
+// were drained but not yet imported are read again after a restart. If the file shrinks or that line
+// changed (players.csv is rewritten when a survey is updated), tailing restarts from the top.
+public class SurveyFileWatcher implements Closeable {
+    private static final int READ_CHUNK = 1 << 16;
+    private static final int FINGERPRINT_BYTES = 256;
+    private static final long POLL_FALLBACK_SECONDS = 2;
+
+    private final Path file;
+    private final Path checkpointFile;
+    private final BlockingQueue<Participant> newParticipants = new LinkedBlockingQueue<>();
+    // Guarded by poll()'s lock like the offset; bounded, so a long-running watcher cannot grow it
+    private final FieldInterner interner = new FieldInterner();
+
+    private long offset;
+    private long fingerprint;
+    // Read position as of the last drain, saved by commitCheckpoint()
+    private long drainedOffset;
+    private long drainedFingerprint;
+    private int rejectedRows;
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean running;
+
+    public SurveyFileWatcher(Path file) {
+        this(file, file.resolveSibling(file.getFileName() + ".offset"));
+    }
+
+    public SurveyFileWatcher(Path file, Path checkpointFile) {
+        this.file = file.toAbsolutePath();
+        this.checkpointFile = checkpointFile.toAbsolutePath();
+        loadCheckpoint();
+        drainedOffset = offset;
+        drainedFingerprint = fingerprint;
+    }
+
+    // Reads anything already appended, then watches the directory for further changes
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        poll();
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        running = true;
+        thread = new Thread(this::watchLoop, "survey-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Reads and parses only the complete lines appended since the last call
+    public synchronized int poll() throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset || (offset > 0 && fingerprintAt(channel, offset) != fingerprint)) {
+                System.out.println("🔄 " + file.getFileName() + " was rewritten - rescanning from the start");
+                offset = 0;
+                fingerprint = 0;
+                drainedOffset = 0;
+                drainedFingerprint = 0;
+            }
+            if (size == offset) {
+                return 0;
+            }
+            return readFrom(channel, size);
+        }
+    }
+
+    // Moves every participant found so far into the target; the position is not saved until commitCheckpoint()
+    public synchronized int drainNewParticipants(Collection<? super Participant> target) {
+        int drained = newParticipants.drainTo(target);
+        drainedOffset = offset;
+        drainedFingerprint = fingerprint;
+        return drained;
+    }
+
+    // Call once everything drained so far has been imported; a restart then resumes after those rows
+    public synchronized void commitCheckpoint() {
+        saveCheckpoint(drainedOffset, drainedFingerprint);
+    }
+
+    public BlockingQueue<Participant> getQueue() {
+        return newParticipants;
+    }
+
+    public synchronized long getOffset() {
+        return offset;
+    }
+
+    public synchronized int getRejectedRows() {
+        return rejectedRows;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+                // Watch thread exits on ClosedWatchServiceException either way
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private int readFrom(FileChannel channel, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK);
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        long position = offset;
+        long lineStart = offset;
+        int added = 0;
+
+        channel.position(offset);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                position++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                if (acceptLine(line.toString(StandardCharsets.UTF_8), lineStart)) {
+                    added++;
+                }
+                line.reset();
+                lineStart = position;
+                // Only complete lines move the offset; a half-written row is read again next time
+                offset = position;
+            }
+        }
+        fingerprint = fingerprintAt(channel, offset);
+        return added;
+    }
+
+    private boolean acceptLine(String line, long lineStart) {
+        if (line.isBlank() || (lineStart == 0 && line.startsWith("ParticipantID"))) {
+            return false;
+        }
+        try {
+            newParticipants.add(FileHandler.parseParticipant(line, -1, interner));
+            return true;
+        } catch (Exception e) {
+            rejectedRows++;
+            return false;
+        }
+    }
+
+    // CRC of up to FINGERPRINT_BYTES just before end; detects in-place rewrites that keep or grow the size
+    private static long fingerprintAt(FileChannel channel, long end) throws IOException {
+        if (end == 0) {
+            return 0;
+        }
+        int length = (int) Math.min(FINGERPRINT_BYTES, end);
+        ByteBuffer tail = ByteBuffer.allocate(length);
+        long position = end - length;
+        while (tail.hasRemaining()) {
+            int read = channel.read(tail, position + tail.position());
+            if (read < 0) {
+                return -1;
+            }
+        }
+        tail.flip();
+        CRC32 crc = new CRC32();
+        crc.update(tail);
+        return crc.getValue();
+    }
+
+    private void watchLoop() {
+        while (running) {
+            try {
+                // Fall back to polling every few seconds; some file systems never deliver events
+                WatchKey key = watchService.poll(POLL_FALLBACK_SECONDS, TimeUnit.SECONDS);
+                boolean relevant = key == null;
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        Object context = event.context();
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || (context instanceof Path && file.getFileName().equals(context))) {
+                            relevant = true;
+                        }
+                    }
+                    key.reset();
+                }
+                if (relevant) {
+                    poll();
+                }
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return;
+            } catch (IOException e) {
+                System.err.println("❌ Error reading " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void loadCheckpoint() {
+        try {
+            if (Files.exists(checkpointFile)) {
+                String[] parts = Files.readString(checkpointFile).trim().split(",");
+                offset = Long.parseLong(parts[0]);
+                fingerprint = parts.length > 1 ? Long.parseLong(parts[1]) : 0;
+            }
+        } catch (IOException | NumberFormatException e) {
+            offset = 0;
+            fingerprint = 0;
+        }
+    }
+
+    private void saveCheckpoint(long savedOffset, long savedFingerprint) {
+        try {
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(temp, savedOffset + "," + savedFingerprint);
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️  Could not save survey checkpoint: " + e.getMessage());
+        }
+    }
+}
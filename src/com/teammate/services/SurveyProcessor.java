@@ -4,6 +4,7 @@ import com.teammate.models.Participant;
 import com.teammate.models.GameRole;
 import com.teammate.models.PersonalityType;
 import com.teammate.models.IdGenerator;
+import com.teammate.models.IdSequencer;
 
 import java.util.Arrays;
 import java.util.List;
@@ -18,6 +19,17 @@ public class SurveyProcessor {
             "I enjoy coming up with creative solutions (1-5): "
     );
 
+    private final IdSequencer ids;
+
+    public SurveyProcessor() {
+        this(IdGenerator.defaultSequencer());
+    }
+
+    // New survey participants take their IDs from the event's sequencer
+    public SurveyProcessor(IdSequencer ids) {
+        this.ids = ids;
+    }
+
     public Participant conductInteractiveSurvey(String playerEmail, String playerName, Scanner scanner) {
         System.out.println("\n" + "=".repeat(50));
         System.out.println("        PERSONALITY SURVEY");
@@ -117,8 +129,9 @@ public class SurveyProcessor {
             PersonalityType personalityType = PersonalityType.fromScore(personalityScore);
             System.out.println("\nYour personality score: " + personalityScore + "/100 (" + personalityType.getDisplayName() + ")");
 
-            // Create participant - ID will be auto-generated by constructor
+            // Create participant with the next ID of this event
             Participant participant = new Participant(
+                    ids.nextParticipantId(),
                     playerName,
                     playerEmail,
                     gameInterest, // This now contains the normalized game name
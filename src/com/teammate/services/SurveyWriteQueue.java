@@ -0,0 +1,270 @@
+package com.teammate.services;
+
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.FileIoEvent;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
+import com.teammate.models.Participant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write-behind queue for survey appends with group commit.
+// Submitters enqueue a row and get a future; one writer thread drains whatever is queued,
+// appends it with a single write and a single force(), then completes every future in the batch.
+// A full queue blocks submitters, which keeps memory bounded under bursts.
+// Submitters check-and-enqueue under the read side of a gate and close() flips to closed under the
+// write side, so once close() returns every accepted row has been committed or failed.
+// Before each batch the open channel is checked against the file currently at the path (a backup
+// restore renames a new players.csv into place), and a failed batch is cut back off the file so the
+// next one never lands after half-written rows.
+public class SurveyWriteQueue implements Closeable {
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int DEFAULT_MAX_BATCH = 512;
+
+    private static final LatencyHistogram COMMIT_LATENCY = MetricsRegistry.histogram(
+            "teammate_survey_commit_seconds", "Time to write and force one batch of survey rows");
+    private static final Counter BATCHES = MetricsRegistry.counter(
+            "teammate_survey_batches_total", "Group commits of survey rows");
+    private static final Counter ROWS = MetricsRegistry.counter(
+            "teammate_survey_rows_total", "Survey rows made durable");
+
+    private static final Pending STOP = new Pending(null);
+    private static final long OFFER_POLL_MILLIS = 100;
+
+    private final Path file;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatch;
+    private final Thread writer;
+    private final ReadWriteLock gate = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public SurveyWriteQueue(Path file) {
+        this(file, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    public SurveyWriteQueue(Path file, int capacity, int maxBatch) {
+        if (CompressedFiles.isGzip(file)) {
+            throw new IllegalArgumentException("Survey file must be plain CSV: " + file);
+        }
+        if (capacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.writer = new Thread(this::run, "survey-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Completes once the row has been written and forced to disk
+    public CompletableFuture<Void> submit(Participant participant) {
+        Pending pending = new Pending(FileHandler.formatParticipantRow(participant));
+        gate.readLock().lock();
+        try {
+            // close() cannot run while we hold the read side, so only a dead writer can set closed here
+            while (!closed) {
+                if (queue.offer(pending, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        // The writer died around our offer and may already have drained; fail what is left
+                        drainAndFail(new IOException("Survey write queue is closed"));
+                    }
+                    return pending.future;
+                }
+            }
+            pending.future.completeExceptionally(new IOException("Survey write queue is closed"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+        } finally {
+            gate.readLock().unlock();
+        }
+        return pending.future;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // Stops accepting rows, commits everything already queued and waits for the writer to finish
+    @Override
+    public void close() {
+        gate.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            gate.writeLock().unlock();
+        }
+        try {
+            // Nothing can be enqueued any more, so a live writer always makes room for STOP
+            while (!queue.offer(STOP, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writer.isAlive()) {
+                    break;
+                }
+            }
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainAndFail(new IOException("Survey write queue is closed"));
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        StringBuilder text = new StringBuilder(maxBatch * 96);
+        boolean stopping = false;
+
+        FileChannel channel = null;
+        Object openedIdentity = null;
+        try {
+            while (!stopping) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                if (batch.remove(STOP)) {
+                    // STOP is the last thing close() lets in, so anything still queued goes out now
+                    stopping = true;
+                    queue.drainTo(batch);
+                }
+                if (!batch.isEmpty()) {
+                    // Reopen if the file was deleted or replaced (renamed over) since the last batch
+                    if (channel == null || !Objects.equals(openedIdentity, fileIdentity())) {
+                        closeQuietly(channel);
+                        channel = FileChannel.open(file,
+                                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                        openedIdentity = fileIdentity();
+                    }
+                    if (!commit(channel, batch, text)) {
+                        // Could not cut the failed batch back off: start over on a fresh channel
+                        closeQuietly(channel);
+                        channel = null;
+                    }
+                }
+                batch.clear();
+            }
+            drainAndFail(new IOException("Survey write queue is closed"));
+        } catch (IOException e) {
+            failAll(batch, e);
+            closed = true;
+            drainAndFail(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(batch, e);
+            closed = true;
+            drainAndFail(e);
+        } finally {
+            closeQuietly(channel);
+        }
+    }
+
+    // The inode (or platform equivalent) of the file now at the path; creation time where the platform
+    // has no file key. Null when there is no file.
+    private Object fileIdentity() throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Nothing useful to do; every committed batch was already forced
+            }
+        }
+    }
+
+    // Returns false if the batch failed and its partial bytes could not be truncated away
+    private boolean commit(FileChannel channel, List<Pending> batch, StringBuilder text) throws IOException {
+        long timer = MetricsRegistry.startTimer();
+        FileIoEvent ioEvent = FileIoEvent.start(file.toString(), "append");
+
+        text.setLength(0);
+        // The file may have been truncated and rewritten in place, so check once per batch
+        long start = channel.size();
+        if (start == 0) {
+            text.append(FileHandler.PARTICIPANT_HEADER).append(System.lineSeparator());
+        }
+        for (Pending pending : batch) {
+            text.append(pending.row).append(System.lineSeparator());
+        }
+
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(text));
+        int length = bytes.remaining();
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            ioEvent.finish(0, 0, batch.size());
+            boolean truncated = true;
+            try {
+                channel.truncate(start);
+                channel.force(false);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+                truncated = false;
+            }
+            failAll(batch, e);
+            return truncated;
+        }
+
+        ioEvent.finish(length, batch.size(), 0);
+        COMMIT_LATENCY.recordSince(timer);
+        BATCHES.increment();
+        ROWS.add(batch.size());
+        for (Pending pending : batch) {
+            pending.future.complete(null);
+        }
+        return true;
+    }
+
+    private void drainAndFail(Exception cause) {
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining, cause);
+    }
+
+    private static void failAll(List<Pending> batch, Exception cause) {
+        for (Pending pending : batch) {
+            if (pending != STOP) {
+                pending.future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    private static final class Pending {
+        final String row;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Pending(String row) {
+            this.row = row;
+        }
+    }
+}
@@ -5,12 +5,34 @@ import com.teammate.models.Participant;
 import com.teammate.models.GameRole;
 import com.teammate.models.PersonalityType;
 import com.teammate.exceptions.TeamFormationException;
+import com.teammate.metrics.Counter;
+import com.teammate.metrics.FormationPhaseEvent;
+import com.teammate.metrics.LatencyHistogram;
+import com.teammate.metrics.MetricsRegistry;
 
 import java.util.*;
 
 public class TeamBuilder {
+    private static final String PHASE_METRIC = "teammate_formation_phase_seconds";
+    private static final String PHASE_HELP = "Time spent in each team formation phase";
+    private static final LatencyHistogram LEADERS_PHASE = MetricsRegistry.histogram(PHASE_METRIC, PHASE_HELP, "phase", "leaders");
+    private static final LatencyHistogram THINKERS_PHASE = MetricsRegistry.histogram(PHASE_METRIC, PHASE_HELP, "phase", "thinkers");
+    private static final LatencyHistogram BALANCED_PHASE = MetricsRegistry.histogram(PHASE_METRIC, PHASE_HELP, "phase", "balanced");
+    private static final LatencyHistogram FILL_PHASE = MetricsRegistry.histogram(PHASE_METRIC, PHASE_HELP, "phase", "fill");
+    private static final LatencyHistogram FORMATION_LATENCY = MetricsRegistry.histogram(
+            "teammate_formation_seconds", "Total time to form all teams");
+    private static final Counter TEAMS_FORMED = MetricsRegistry.counter(
+            "teammate_formation_teams_total", "Teams produced by the team builder");
+
     private final int teamSize;
     private final List<Participant> participants;
+    // Search engines turn the limit into a System.nanoTime() deadline; capping it keeps that sum from overflowing
+    public static final long MAX_SEARCH_TIME_LIMIT_MILLIS = 24L * 60 * 60 * 1000;
+
+    private long searchTimeLimitMillis = Math.min(MAX_SEARCH_TIME_LIMIT_MILLIS,
+            Math.max(1, Long.getLong("teammate.search.timeLimitMs", 10_000L)));
+    private long searchSeed = Long.getLong("teammate.search.seed", 42L);
+    private int geneticGenerations = Integer.getInteger("teammate.genetic.generations", 400);
 
     public TeamBuilder(int teamSize, List<Participant> participants) throws TeamFormationException {
         List<String> errors = ValidationService.validateTeamSize(teamSize, participants.size());
@@ -26,7 +48,195 @@ public class TeamBuilder {
         return formTeamsWithFairDistribution();
     }
 
+    // Upper bound on wall-clock time for the search-based strategies, capped at MAX_SEARCH_TIME_LIMIT_MILLIS
+    public void setSearchTimeLimit(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Time limit must be positive");
+        }
+        this.searchTimeLimitMillis = Math.min(millis, MAX_SEARCH_TIME_LIMIT_MILLIS);
+    }
+
+    public long getSearchTimeLimit() {
+        return searchTimeLimitMillis;
+    }
+
+    // Same seed and generation budget give the same genetic formation
+    public void setSearchSeed(long seed) {
+        this.searchSeed = seed;
+    }
+
+    public void setGeneticGenerations(int generations) {
+        if (generations <= 0) {
+            throw new IllegalArgumentException("Generations must be positive");
+        }
+        this.geneticGenerations = generations;
+    }
+
+    // A strategy that trips over its own roster bookkeeping reports it as a formation failure, so the
+    // console shows an error instead of exiting
+    public List<Team> formTeams(FormationStrategy strategy) throws TeamFormationException {
+        try {
+            return formTeamsUnchecked(strategy);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new TeamFormationException(strategy.getDisplayName() + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Team> formTeamsUnchecked(FormationStrategy strategy) throws TeamFormationException {
+        switch (strategy) {
+            case OPTIMAL:
+                return formOptimalTeams();
+            case GENETIC:
+                return formGeneticTeams();
+            case PARETO:
+                return useFormation(findParetoFormations().stream()
+                        .min(Comparator.comparingDouble(option -> FormationObjective.DEFAULT.cost(option.getScore())))
+                        .orElseThrow(() -> new TeamFormationException("No formation found")));
+            case SKILL_BALANCED:
+                return formSkillBalancedTeams();
+            case ROLE_COVERAGE:
+                return formRoleCoverageTeams();
+            default:
+                return formTeamsWithFairDistribution();
+        }
+    }
+
+    // Branch-and-bound over FormationObjective.DEFAULT, starting from the better greedy formation
+    public List<Team> formOptimalTeams() throws TeamFormationException {
+        if (participants.size() > BranchAndBoundSolver.MAX_PARTICIPANTS) {
+            throw new TeamFormationException("Optimal search supports at most " + BranchAndBoundSolver.MAX_PARTICIPANTS +
+                    " participants (got " + participants.size() + "). Please choose another strategy.");
+        }
+        long formationTimer = MetricsRegistry.startTimer();
+        FormationObjective objective = FormationObjective.DEFAULT;
+
+        System.out.println("🔧 Searching for the optimal formation of " + participants.size() / teamSize + " teams" +
+                " (time limit " + searchTimeLimitMillis / 1000.0 + "s)...");
+
+        List<Team> skillBalanced = new SkillBalancer(teamSize).form(participants);
+        List<Team> roleCovering = new RoleCoverageOptimizer(teamSize).form(participants);
+        List<Team> incumbent = objective.cost(skillBalanced) <= objective.cost(roleCovering) ? skillBalanced : roleCovering;
+
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("branch-and-bound");
+        BranchAndBoundSolver.Result result = new BranchAndBoundSolver(teamSize, objective, searchTimeLimitMillis,
+                Runtime.getRuntime().availableProcessors()).solve(incumbent);
+        List<Team> teams = new ArrayList<>(result.getTeams());
+        phaseEvent.finish(teams.size(), teams.stream().mapToInt(Team::getSize).sum());
+
+        completeFormation(teams, formationTimer, result.isOptimal() ? "a proven optimal objective" : "the best objective found");
+
+        System.out.println((result.isOptimal() ? "🏆 Proven optimal" : "⏱️  Time limit reached - best formation found") +
+                String.format(": cost %.2f (greedy start %.2f), %,d nodes explored", result.getCost(),
+                        result.getInitialCost(), result.getNodes()));
+        System.out.println("   " + FormationObjective.score(teams));
+        return teams;
+    }
+
+    // Island-model genetic search over FormationObjective.DEFAULT, seeded with both greedy formations
+    public List<Team> formGeneticTeams() throws TeamFormationException {
+        long formationTimer = MetricsRegistry.startTimer();
+        FormationObjective objective = FormationObjective.DEFAULT;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int islands = Math.max(2, Math.min(8, cores));
+
+        System.out.println("🔧 Evolving " + participants.size() / teamSize + " teams on " + islands + " islands" +
+                " (" + geneticGenerations + " generations or " + searchTimeLimitMillis / 1000.0 + "s, seed " + searchSeed + ")...");
+
+        List<List<Team>> seeds = new ArrayList<>();
+        seeds.add(new SkillBalancer(teamSize).form(participants));
+        seeds.add(new RoleCoverageOptimizer(teamSize).form(participants));
+
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("genetic");
+        GeneticFormationEngine.Result result = new GeneticFormationEngine(teamSize, objective, islands, 64,
+                geneticGenerations, searchTimeLimitMillis, searchSeed, cores).evolve(seeds);
+        List<Team> teams = new ArrayList<>(result.getTeams());
+        phaseEvent.finish(teams.size(), teams.stream().mapToInt(Team::getSize).sum());
+
+        completeFormation(teams, formationTimer, "an evolved objective");
+
+        System.out.println(String.format("🧬 Cost %.2f (greedy start %.2f) after %d generations, %,d evaluations",
+                result.getCost(), result.getInitialCost(), result.getGenerations(), result.getEvaluations()));
+        System.out.println("   " + FormationObjective.score(teams));
+        return teams;
+    }
+
+    // Same leader/thinker rules, but every placement goes to a team that is still missing the player's role
+    public List<Team> formRoleCoverageTeams() throws TeamFormationException {
+        long formationTimer = MetricsRegistry.startTimer();
+        int totalTeams = participants.size() / teamSize;
+
+        System.out.println("🔧 Forming " + totalTeams + " role-covering teams:");
+        System.out.println("   • At least 1 Leader and 1 Thinker per team (if available)");
+        System.out.println("   • Each player goes to a team that lacks their game role where possible");
+
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("role-coverage");
+        List<Team> teams = new RoleCoverageOptimizer(teamSize).form(participants);
+        phaseEvent.finish(teams.size(), teams.stream().mapToInt(Team::getSize).sum());
+
+        completeFormation(teams, formationTimer, "maximised role coverage");
+
+        int fullCoverage = Math.min(teamSize, GameRole.values().length);
+        long covered = teams.stream().filter(team -> team.getDistinctRoleCount() == fullCoverage).count();
+        System.out.println("🧩 " + covered + "/" + teams.size() + " teams cover " + fullCoverage + " different roles");
+        return teams;
+    }
+
+    // Formations that cannot improve skill variance, role coverage or game overlap without giving up
+    // another of them; nothing is printed or recorded until one is passed to useFormation
+    public List<FormationOption> findParetoFormations() throws TeamFormationException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("🔧 Searching trade-offs between skill balance, role coverage and game variety" +
+                " (time limit " + searchTimeLimitMillis / 1000.0 + "s)...");
+
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("pareto");
+        List<ParetoFormationSearch.Candidate> front;
+        try {
+            front = new ParetoFormationSearch(teamSize, geneticGenerations, searchTimeLimitMillis, searchSeed, cores)
+                    .search(participants);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new TeamFormationException("Trade-off search failed: " + e.getMessage(), e);
+        }
+        phaseEvent.finish(participants.size() / teamSize, front.size());
+
+        List<FormationOption> options = new ArrayList<>(front.size());
+        for (ParetoFormationSearch.Candidate candidate : front) {
+            options.add(new FormationOption(candidate.label, candidate.teams, candidate.score,
+                    analyzeTeamFormation(candidate.teams)));
+        }
+        return options;
+    }
+
+    // Adopts a precomputed formation as if this builder had just formed it
+    public List<Team> useFormation(FormationOption option) throws TeamFormationException {
+        long formationTimer = MetricsRegistry.startTimer();
+        List<Team> teams = new ArrayList<>(option.getTeams());
+        completeFormation(teams, formationTimer, "the chosen trade-off (" + option.getLabel() + ")");
+        System.out.println("   " + option.getScore());
+        return teams;
+    }
+
+    // Same leader/thinker rules as the fair distribution, but every placement also evens out total skill
+    public List<Team> formSkillBalancedTeams() throws TeamFormationException {
+        long formationTimer = MetricsRegistry.startTimer();
+        int totalTeams = participants.size() / teamSize;
+
+        System.out.println("🔧 Forming " + totalTeams + " skill-balanced teams:");
+        System.out.println("   • At least 1 Leader and 1 Thinker per team (if available)");
+        System.out.println("   • Strongest players first, each to the team with the lowest total skill");
+
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("skill-balance");
+        List<Team> teams = new SkillBalancer(teamSize).form(participants);
+        phaseEvent.finish(teams.size(), teams.stream().mapToInt(Team::getSize).sum());
+
+        completeFormation(teams, formationTimer, "balanced skill");
+
+        IntSummaryStatistics totals = teams.stream().mapToInt(Team::getTotalSkill).summaryStatistics();
+        System.out.println("📏 Team total skill ranges from " + totals.getMin() + " to " + totals.getMax());
+        return teams;
+    }
+
     public List<Team> formTeamsWithFairDistribution() throws TeamFormationException {
+        long formationTimer = MetricsRegistry.startTimer();
         List<Participant> availableParticipants = new ArrayList<>(participants);
         Collections.shuffle(availableParticipants);
 
@@ -38,10 +248,10 @@ public class TeamBuilder {
         System.out.println("   • At least 1 Thinker per team (if available)");
         System.out.println("   • Balanced distribution of remaining spots");
 
-        // Sort participants by personality type
-        List<Participant> leaders = new ArrayList<>();
-        List<Participant> thinkers = new ArrayList<>();
-        List<Participant> balanced = new ArrayList<>();
+        // Sort participants by personality type; deques so each phase takes from the front in O(1)
+        ArrayDeque<Participant> leaders = new ArrayDeque<>();
+        ArrayDeque<Participant> thinkers = new ArrayDeque<>();
+        ArrayDeque<Participant> balanced = new ArrayDeque<>();
 
         for (Participant p : availableParticipants) {
             switch (p.getPersonalityType()) {
@@ -62,17 +272,42 @@ public class TeamBuilder {
         }
 
         // Phase 1: Distribute Leaders fairly (1 per team if possible)
+        long phaseTimer = MetricsRegistry.startTimer();
+        FormationPhaseEvent phaseEvent = FormationPhaseEvent.start("leaders");
+        int remaining = leaders.size();
         distributeLeadersFairly(teams, leaders);
+        phaseEvent.finish(totalTeams, remaining - leaders.size());
+        LEADERS_PHASE.recordSince(phaseTimer);
 
         // Phase 2: Distribute Thinkers fairly (at least 1 per team if possible)
+        phaseTimer = MetricsRegistry.startTimer();
+        phaseEvent = FormationPhaseEvent.start("thinkers");
+        remaining = thinkers.size();
         distributeThinkersFairly(teams, thinkers);
+        phaseEvent.finish(totalTeams, remaining - thinkers.size());
+        THINKERS_PHASE.recordSince(phaseTimer);
 
         // Phase 3: Fill remaining spots with Balanced participants
+        phaseTimer = MetricsRegistry.startTimer();
+        phaseEvent = FormationPhaseEvent.start("balanced");
+        remaining = balanced.size();
         distributeBalancedFairly(teams, balanced);
+        phaseEvent.finish(totalTeams, remaining - balanced.size());
+        BALANCED_PHASE.recordSince(phaseTimer);
 
         // Phase 4: Fill any remaining spots with leftover participants
+        phaseTimer = MetricsRegistry.startTimer();
+        phaseEvent = FormationPhaseEvent.start("fill");
+        int placedBeforeFill = teams.stream().mapToInt(Team::getSize).sum();
         fillRemainingSpotsFairly(teams, leaders, thinkers, balanced);
+        phaseEvent.finish(totalTeams, teams.stream().mapToInt(Team::getSize).sum() - placedBeforeFill);
+        FILL_PHASE.recordSince(phaseTimer);
+
+        completeFormation(teams, formationTimer, "fair distribution");
+        return teams;
+    }
 
+    private void completeFormation(List<Team> teams, long formationTimer, String description) throws TeamFormationException {
         // Validate all teams are complete
         for (Team team : teams) {
             if (team.getSize() != teamSize) {
@@ -81,62 +316,66 @@ public class TeamBuilder {
             printTeamComposition(team);
         }
 
-        System.out.println("\n🎉 Successfully formed " + teams.size() + " teams with fair distribution!");
-        return teams;
+        FORMATION_LATENCY.recordSince(formationTimer);
+        TEAMS_FORMED.add(teams.size());
+
+        System.out.println("\n🎉 Successfully formed " + teams.size() + " teams with " + description + "!");
     }
 
-    private void distributeLeadersFairly(List<Team> teams, List<Participant> leaders) {
+    private void distributeLeadersFairly(List<Team> teams, ArrayDeque<Participant> leaders) {
 //        System.out.println("\n👑 Distributing Leaders...");
 
         // Give each team one leader if possible
         for (Team team : teams) {
             if (!leaders.isEmpty() && team.getSize() == 0) {
-                Participant leader = leaders.remove(0);
+                Participant leader = leaders.pollFirst();
                 team.addMember(leader);
 //                System.out.println("   ✅ " + team.getTeamId() + " got Leader: " + leader.getName());
             }
         }
 
-        // If we have extra leaders, distribute them to teams without leaders
-        while (!leaders.isEmpty()) {
-            Team teamWithoutLeader = teams.stream()
-                    .filter(team -> !team.hasLeader() && team.getSize() < teamSize)
-                    .findFirst()
-                    .orElse(null);
-
-            if (teamWithoutLeader != null) {
-                Participant leader = leaders.remove(0);
-                teamWithoutLeader.addMember(leader);
-//                System.out.println("   ➕ " + teamWithoutLeader.getTeamId() + " got extra Leader: " + leader.getName());
-            } else {
-                break; // No teams need leaders
+        // If we have extra leaders, distribute them to teams without leaders (one pass, in team order)
+        for (Team team : teams) {
+            if (leaders.isEmpty()) {
+                break;
+            }
+            if (!team.hasLeader() && team.getSize() < teamSize) {
+                Participant leader = leaders.pollFirst();
+                team.addMember(leader);
+//                System.out.println("   ➕ " + team.getTeamId() + " got extra Leader: " + leader.getName());
             }
         }
     }
 
-    private void distributeThinkersFairly(List<Team> teams, List<Participant> thinkers) {
+    private void distributeThinkersFairly(List<Team> teams, ArrayDeque<Participant> thinkers) {
 //        System.out.println("\n🤔 Distributing Thinkers...");
 
         // First, ensure each team gets at least one thinker if possible
         for (Team team : teams) {
-            if (!thinkers.isEmpty() && countThinkers(team) == 0 && team.getSize() < teamSize) {
-                Participant thinker = thinkers.remove(0);
+            if (!thinkers.isEmpty() && team.getPersonalityCount(PersonalityType.THINKER) == 0 && team.getSize() < teamSize) {
+                Participant thinker = thinkers.pollFirst();
                 team.addMember(thinker);
 //                System.out.println("   ✅ " + team.getTeamId() + " got Thinker: " + thinker.getName());
             }
         }
 
-        // Distribute remaining thinkers evenly
+        // Distribute remaining thinkers evenly: open teams bucketed by thinker count, fewest first
+        CandidateBuckets<Team> openTeams = new CandidateBuckets<>(0, teamSize,
+                team -> team.getPersonalityCount(PersonalityType.THINKER));
+        for (Team team : teams) {
+            if (team.getSize() < teamSize) {
+                openTeams.add(team);
+            }
+        }
         while (!thinkers.isEmpty()) {
-            // Find team with fewest thinkers that can accept more members
-            Team teamWithFewestThinkers = teams.stream()
-                    .filter(team -> team.getSize() < teamSize)
-                    .min(Comparator.comparingInt(this::countThinkers))
-                    .orElse(null);
+            Team teamWithFewestThinkers = openTeams.pollLowest();
 
             if (teamWithFewestThinkers != null) {
-                Participant thinker = thinkers.remove(0);
+                Participant thinker = thinkers.pollFirst();
                 teamWithFewestThinkers.addMember(thinker);
+                if (teamWithFewestThinkers.getSize() < teamSize) {
+                    openTeams.add(teamWithFewestThinkers);
+                }
 //                System.out.println("   ➕ " + teamWithFewestThinkers.getTeamId() + " got additional Thinker: " + thinker.getName());
             } else {
                 break; // No teams can accept more members
@@ -144,20 +383,28 @@ public class TeamBuilder {
         }
     }
 
-    private void distributeBalancedFairly(List<Team> teams, List<Participant> balanced) {
+    private void distributeBalancedFairly(List<Team> teams, ArrayDeque<Participant> balanced) {
 //        System.out.println("\n⚖️ Distributing Balanced participants...");
 
+        // Open teams bucketed by current size, so the smallest one is found without a scan
+        CandidateBuckets<Team> openTeams = new CandidateBuckets<>(0, teamSize, Team::getSize);
+        for (Team team : teams) {
+            if (team.getSize() < teamSize) {
+                openTeams.add(team);
+            }
+        }
+
         // Distribute balanced participants evenly
         while (!balanced.isEmpty()) {
             // Find team with fewest members (to balance team sizes)
-            Team teamWithFewestMembers = teams.stream()
-                    .filter(team -> team.getSize() < teamSize)
-                    .min(Comparator.comparingInt(Team::getSize))
-                    .orElse(null);
+            Team teamWithFewestMembers = openTeams.pollLowest();
 
             if (teamWithFewestMembers != null) {
-                Participant balancedParticipant = balanced.remove(0);
+                Participant balancedParticipant = balanced.pollFirst();
                 teamWithFewestMembers.addMember(balancedParticipant);
+                if (teamWithFewestMembers.getSize() < teamSize) {
+                    openTeams.add(teamWithFewestMembers);
+                }
 //                System.out.println("   ✅ " + teamWithFewestMembers.getTeamId() + " got Balanced: " + balancedParticipant.getName());
             } else {
                 break; // All teams are full
@@ -165,28 +412,33 @@ public class TeamBuilder {
         }
     }
 
-    private void fillRemainingSpotsFairly(List<Team> teams, List<Participant> leaders, List<Participant> thinkers, List<Participant> balanced) {
+    private void fillRemainingSpotsFairly(List<Team> teams, Collection<Participant> leaders, Collection<Participant> thinkers, Collection<Participant> balanced) {
 //        System.out.println("\n🔄 Filling remaining spots...");
 
-        // Combine all leftover participants
-        List<Participant> allLeftover = new ArrayList<>();
+        // Combine all leftover participants, bucketed by personality score (highest first) for better team quality
+        CandidateBuckets<Participant> allLeftover = CandidateBuckets.byPersonalityScore();
         allLeftover.addAll(leaders);
         allLeftover.addAll(thinkers);
         allLeftover.addAll(balanced);
 
-        // Sort by personality score (highest first) for better team quality
-        allLeftover.sort((p1, p2) -> Integer.compare(p2.getPersonalityScore(), p1.getPersonalityScore()));
+        // Open teams bucketed by current size, so the smallest one is found without a scan
+        CandidateBuckets<Team> openTeams = new CandidateBuckets<>(0, teamSize, Team::getSize);
+        for (Team team : teams) {
+            if (team.getSize() < teamSize) {
+                openTeams.add(team);
+            }
+        }
 
         while (!allLeftover.isEmpty()) {
             // Find team with fewest members
-            Team teamWithFewestMembers = teams.stream()
-                    .filter(team -> team.getSize() < teamSize)
-                    .min(Comparator.comparingInt(Team::getSize))
-                    .orElse(null);
+            Team teamWithFewestMembers = openTeams.pollLowest();
 
             if (teamWithFewestMembers != null) {
-                Participant participant = allLeftover.remove(0);
+                Participant participant = allLeftover.pollHighest();
                 teamWithFewestMembers.addMember(participant);
+                if (teamWithFewestMembers.getSize() < teamSize) {
+                    openTeams.add(teamWithFewestMembers);
+                }
 //                System.out.println("   ➕ " + teamWithFewestMembers.getTeamId() + " got " +
 //                        participant.getPersonalityType() + ": " + participant.getName());
             } else {
@@ -195,26 +447,15 @@ public class TeamBuilder {
         }
     }
 
-    private int countThinkers(Team team) {
-        return (int) team.getMembers().stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.THINKER)
-                .count();
-    }
-
     private void printTeamComposition(Team team) {
-        long leaderCount = team.getMembers().stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.LEADER)
-                .count();
-        long thinkerCount = team.getMembers().stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.THINKER)
-                .count();
-        long balancedCount = team.getMembers().stream()
-                .filter(p -> p.getPersonalityType() == PersonalityType.BALANCED)
-                .count();
-
-        Participant teamLeader = team.getLeader();
+        TeamStats stats = TeamStats.of(team);
+        long leaderCount = stats.leaders;
+        long thinkerCount = stats.thinkers;
+        long balancedCount = stats.balanced;
+
+        Participant teamLeader = stats.leader;
         if (teamLeader == null) {
-            teamLeader = team.getBackupLeader();
+            teamLeader = stats.topScorer;
         }
 
         System.out.println("\n✅ " + team.getTeamId() + " Final Composition: " +
@@ -230,7 +471,7 @@ public class TeamBuilder {
 
         // Show all team members
         System.out.println("   👥 Members:");
-        for (Participant member : team.getMembers()) {
+        for (Participant member : team.getMembersView()) {
             System.out.println("      • " + member.getName() + " - " +
                     member.getPreferredRole() + " - " +
                     member.getPersonalityType() + " (" +
@@ -257,16 +498,16 @@ public class TeamBuilder {
         int teamsWithOptimalThinkers = 0;
         int teamsWithBackupLeader = 0;
 
+        int teamsWithRoleDiversity = 0;
+        int teamsWithFullRoleCoverage = 0;
+
         for (Team team : teams) {
-            long leaderCount = team.getMembers().stream()
-                    .filter(p -> p.getPersonalityType() == PersonalityType.LEADER)
-                    .count();
-            long thinkerCount = team.getMembers().stream()
-                    .filter(p -> p.getPersonalityType() == PersonalityType.THINKER)
-                    .count();
+            // One pass over the members gives every count used below
+            TeamStats stats = TeamStats.of(team);
+            long thinkerCount = stats.thinkers;
 
             // Check if team has a leader (actual Leader or backup)
-            boolean hasLeader = team.getLeader() != null || team.getBackupLeader() != null;
+            boolean hasLeader = stats.leader != null || stats.topScorer != null;
             boolean hasOptimalThinkers = thinkerCount >= 1 && thinkerCount <= 2;
 
             if (hasLeader && hasOptimalThinkers) {
@@ -276,9 +517,17 @@ public class TeamBuilder {
             if (hasOptimalThinkers) teamsWithOptimalThinkers++;
 
             // Count teams with backup leaders
-            if (team.getLeader() == null && team.getBackupLeader() != null) {
+            if (stats.leader == null && stats.topScorer != null) {
                 teamsWithBackupLeader++;
             }
+
+            // Role coverage is kept as a bitmask on the team, so this is O(1)
+            if (team.getDistinctRoleCount() >= 3) {
+                teamsWithRoleDiversity++;
+            }
+            if (team.getDistinctRoleCount() == Math.min(team.getSize(), GameRole.values().length)) {
+                teamsWithFullRoleCoverage++;
+            }
         }
 
         analysis.put("teams_with_ideal_composition", teamsWithIdealComposition);
@@ -294,19 +543,13 @@ public class TeamBuilder {
                 .average()
                 .orElse(0.0);
         analysis.put("average_team_skill", String.format("%.2f", avgTeamSkill));
+        IntSummaryStatistics totalSkills = teams.stream().mapToInt(Team::getTotalSkill).summaryStatistics();
+        analysis.put("team_total_skill_range", totalSkills.getMin() + "-" + totalSkills.getMax());
 
         // Role diversity analysis
-        int teamsWithRoleDiversity = 0;
-        for (Team team : teams) {
-            long uniqueRoles = team.getMembers().stream()
-                    .map(Participant::getPreferredRole)
-                    .distinct()
-                    .count();
-            if (uniqueRoles >= 3) {
-                teamsWithRoleDiversity++;
-            }
-        }
         analysis.put("teams_with_role_diversity", teamsWithRoleDiversity);
+        analysis.put("teams_with_full_role_coverage", teamsWithFullRoleCoverage);
+        analysis.put("objective_cost", String.format("%.2f", FormationObjective.DEFAULT.cost(teams)));
 
         // Game diversity analysis
         int teamsWithGameDiversity = 0;
@@ -319,4 +562,31 @@ public class TeamBuilder {
 
         return analysis;
     }
-}
\ No newline at end of file
+
+    // Per-team counts gathered in a single pass (instead of one stream per question)
+    private static final class TeamStats {
+        int leaders;
+        int thinkers;
+        int balanced;
+        Participant leader;      // first LEADER, as Team.getLeader()
+        Participant topScorer;   // highest personality score, as Team.getBackupLeader()
+
+        static TeamStats of(Team team) {
+            TeamStats stats = new TeamStats();
+            for (Participant member : team.getMembersView()) {
+                switch (member.getPersonalityType()) {
+                    case LEADER:
+                        stats.leaders++;
+                        if (stats.leader == null) stats.leader = member;
+                        break;
+                    case THINKER: stats.thinkers++; break;
+                    case BALANCED: stats.balanced++; break;
+                }
+                if (stats.topScorer == null || member.getPersonalityScore() > stats.topScorer.getPersonalityScore()) {
+                    stats.topScorer = member;
+                }
+            }
+            return stats;
+        }
+    }
+}
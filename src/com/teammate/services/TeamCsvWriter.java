@@ -0,0 +1,273 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+// Streams teams to CSV through one reusable char buffer: no per-team String.format,
+// no member list copies and no Participant.toString() strings.
+public class TeamCsvWriter implements Closeable {
+    public static final String TEAM_ROWS_HEADER = "TeamID,TeamName,MemberCount,AverageSkill,Members,GameInterests";
+    public static final String MEMBER_ROWS_HEADER =
+            "TeamID,TeamName,ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore";
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    public enum Layout {
+        // One row per team; members as a quoted "Name (ID) - Game | ..." list (the original layout)
+        TEAM_ROWS,
+        // One row per member, with the team ID and name repeated on each row
+        MEMBER_ROWS
+    }
+
+    private final Writer out;
+    private final Layout layout;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private long teamsWritten;
+
+    public TeamCsvWriter(Writer out, Layout layout) throws IOException {
+        this.out = out;
+        this.layout = layout;
+        appendRaw(layout == Layout.TEAM_ROWS ? TEAM_ROWS_HEADER : MEMBER_ROWS_HEADER);
+        newLine();
+    }
+
+    public static TeamCsvWriter open(Path file, Layout layout) throws IOException {
+        // A ".gz" path is compressed on the fly
+        Writer writer = new OutputStreamWriter(CompressedFiles.newOutputStream(file), StandardCharsets.UTF_8);
+        return new TeamCsvWriter(writer, layout);
+    }
+
+    public void write(Team team) throws IOException {
+        if (layout == Layout.TEAM_ROWS) {
+            writeTeamRow(team);
+        } else {
+            writeMemberRows(team);
+        }
+        teamsWritten++;
+    }
+
+    public void writeAll(List<Team> teams) throws IOException {
+        for (Team team : teams) {
+            write(team);
+        }
+    }
+
+    public long getTeamsWritten() {
+        return teamsWritten;
+    }
+
+    private void writeTeamRow(Team team) throws IOException {
+        List<Participant> members = team.getMembersView();
+
+        appendField(team.getTeamId());
+        append(',');
+        appendField(team.getTeamName());
+        append(',');
+        appendInt(members.size());
+        append(',');
+        appendAverage(team.getTotalSkill(), members.size());
+        append(',');
+
+        // Same text as Participant.toString(), joined with "; "
+        append('"');
+        for (int i = 0; i < members.size(); i++) {
+            Participant member = members.get(i);
+            if (i > 0) {
+                append(';');
+                append(' ');
+            }
+            appendQuotedContent(member.getName());
+            appendRaw(" (");
+            appendQuotedContent(member.getParticipantId());
+            appendRaw(") - ");
+            appendQuotedContent(member.getGameInterest());
+            appendRaw(" | Email: ");
+            appendQuotedContent(member.getEmail());
+            appendRaw(" | Role: ");
+            appendQuotedContent(String.valueOf(member.getPreferredRole()));
+            appendRaw(" | Personality: ");
+            appendQuotedContent(String.valueOf(member.getPersonalityType()));
+        }
+        append('"');
+        append(',');
+
+        // Distinct game interests in first-seen order; teams are small, so a backwards scan beats a Set
+        append('"');
+        boolean first = true;
+        for (int i = 0; i < members.size(); i++) {
+            String game = members.get(i).getGameInterest();
+            if (seenBefore(members, i, game)) {
+                continue;
+            }
+            if (!first) {
+                append(',');
+                append(' ');
+            }
+            appendQuotedContent(game);
+            first = false;
+        }
+        append('"');
+        newLine();
+    }
+
+    private void writeMemberRows(Team team) throws IOException {
+        for (Participant member : team.getMembersView()) {
+            appendField(team.getTeamId());
+            append(',');
+            appendField(team.getTeamName());
+            append(',');
+            appendField(member.getParticipantId());
+            append(',');
+            appendField(member.getName());
+            append(',');
+            appendField(member.getEmail());
+            append(',');
+            appendField(member.getGameInterest());
+            append(',');
+            appendInt(member.getSkillLevel());
+            append(',');
+            appendRaw(member.getPreferredRole().name());
+            append(',');
+            appendInt(member.getPersonalityScore());
+            newLine();
+        }
+    }
+
+    private static boolean seenBefore(List<Participant> members, int index, String game) {
+        for (int j = 0; j < index; j++) {
+            String other = members.get(j).getGameInterest();
+            if (other == game || (other != null && other.equals(game))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Plain field: quoted only when it contains a delimiter, quote or line break
+    private void appendField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (needsQuoting(value)) {
+            append('"');
+            appendQuotedContent(value);
+            append('"');
+        } else {
+            appendRaw(value);
+        }
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Content inside an already opened quoted field: embedded quotes are doubled
+    private void appendQuotedContent(String value) throws IOException {
+        if (value == null) {
+            appendRaw("null");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                append('"');
+            }
+            append(c);
+        }
+    }
+
+    // Two decimals, rounded half-up from the exact total/size (matches the old "%.2f", minus locale effects)
+    private void appendAverage(int totalSkill, int size) throws IOException {
+        long hundredths = size == 0 ? 0 : (totalSkill * 200L + size) / (2L * size);
+        appendLong(hundredths / 100);
+        append('.');
+        long fraction = hundredths % 100;
+        append((char) ('0' + fraction / 10));
+        append((char) ('0' + fraction % 10));
+    }
+
+    private void appendInt(int value) throws IOException {
+        appendLong(value);
+    }
+
+    private void appendLong(long value) throws IOException {
+        if (value < 0) {
+            append('-');
+            value = -value;
+        }
+        if (position + 20 > buffer.length) {
+            flushBuffer();
+        }
+        int start = position;
+        do {
+            buffer[position++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        // Digits were written least significant first
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            char tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void appendRaw(String value) throws IOException {
+        int length = value.length();
+        if (position + length > buffer.length) {
+            flushBuffer();
+            if (length > buffer.length) {
+                out.write(value);
+                return;
+            }
+        }
+        value.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    private void append(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void newLine() throws IOException {
+        append('\n');
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.teammate.services;
+
+import com.teammate.models.Team;
+import com.teammate.models.TeamRecord;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+public enum TeamExportFormat {
+    CSV("csv", "CSV (one row per team)"),
+    CSV_MEMBER_ROWS("csv", "CSV (one row per member)"),
+    JSON_LINES("jsonl", "JSON Lines (participant IDs)"),
+    BINARY("teams", "Compact binary");
+
+    private final String extension;
+    private final String displayName;
+
+    TeamExportFormat(String extension, String displayName) {
+        this.extension = extension;
+        this.displayName = displayName;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public TeamExporter exporter() {
+        switch (this) {
+            case CSV_MEMBER_ROWS:
+                return (teams, file) -> writeCsv(teams, file, TeamCsvWriter.Layout.MEMBER_ROWS);
+            case JSON_LINES:
+                return new JsonLinesTeamCodec();
+            case BINARY:
+                return new BinaryTeamCodec();
+            default:
+                return (teams, file) -> writeCsv(teams, file, TeamCsvWriter.Layout.TEAM_ROWS);
+        }
+    }
+
+    // Reads team records back; only the ID-based formats can be read without the roster text
+    public static List<TeamRecord> readRecords(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        if (name.endsWith("." + JSON_LINES.extension)) {
+            return JsonLinesTeamCodec.read(file);
+        }
+        if (name.endsWith("." + BINARY.extension)) {
+            return BinaryTeamCodec.read(file);
+        }
+        throw new IOException("Unsupported team file format: " + name);
+    }
+
+    private static void writeCsv(List<Team> teams, Path file, TeamCsvWriter.Layout layout)
+            throws IOException {
+        try (TeamCsvWriter writer = TeamCsvWriter.open(file, layout)) {
+            writer.writeAll(teams);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.teammate.services;
+
+import com.teammate.models.Team;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+// Writes formed teams to a file in one particular format (see TeamExportFormat)
+public interface TeamExporter {
+    void export(List<Team> teams, Path file) throws IOException;
+}
@@ -0,0 +1,70 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Reverse index from participant ID and email to the team they are on, so "which team am I in?"
+// is one hash lookup instead of a scan over every team's members. Lookups are lock-free and safe
+// from any number of threads. The index registers itself as each team's membership listener, so
+// adding or removing a member after formation updates it too.
+// Emails are matched case-insensitively, as the survey-file duplicate checks do.
+public final class TeamIndex implements Team.MembershipListener {
+    private final Map<String, Team> byParticipantId;
+    private final Map<String, Team> byEmail;
+
+    public TeamIndex(List<Team> teams) {
+        int expected = 0;
+        for (Team team : teams) {
+            expected += team.getSize();
+        }
+        this.byParticipantId = new ConcurrentHashMap<>(Math.max(16, expected * 4 / 3 + 1));
+        this.byEmail = new ConcurrentHashMap<>(Math.max(16, expected * 4 / 3 + 1));
+        for (Team team : teams) {
+            for (Participant member : team.getMembersView()) {
+                memberAdded(team, member);
+            }
+            team.setMembershipListener(this);
+        }
+    }
+
+    public Team teamOf(String participantId) {
+        return participantId == null ? null : byParticipantId.get(participantId);
+    }
+
+    public Team teamOfEmail(String email) {
+        return email == null ? null : byEmail.get(email.toLowerCase(Locale.ROOT));
+    }
+
+    // By email first: a login's email is unique, while a profile read from players.csv may carry an
+    // ID that another roster entry also uses. The ID is only a fallback for rows without an email.
+    public Team teamOf(Participant participant) {
+        String email = participant.getEmail();
+        return email != null ? teamOfEmail(email) : teamOf(participant.getParticipantId());
+    }
+
+    @Override
+    public void memberAdded(Team team, Participant participant) {
+        byParticipantId.put(participant.getParticipantId(), team);
+        if (participant.getEmail() != null) {
+            byEmail.put(participant.getEmail().toLowerCase(Locale.ROOT), team);
+        }
+    }
+
+    // Only drops entries that still point at this team, so a move (add elsewhere, then remove) is kept
+    @Override
+    public void memberRemoved(Team team, Participant participant) {
+        byParticipantId.remove(participant.getParticipantId(), team);
+        if (participant.getEmail() != null) {
+            byEmail.remove(participant.getEmail().toLowerCase(Locale.ROOT), team);
+        }
+    }
+
+    public int size() {
+        return byParticipantId.size();
+    }
+}
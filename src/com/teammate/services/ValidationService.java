@@ -19,15 +19,37 @@ public class ValidationService {
             return null;
         }
 
-        return VALID_GAMES.stream()
-                .filter(g -> g.equalsIgnoreCase(game.trim()))
-                .findFirst()
-                .orElse(game); // fallback to original if not found (though isValidGame should catch this)
+        String canonical = canonicalGameName(game);
+        return canonical != null ? canonical : game; // fallback to original if not found (though isValidGame should catch this)
     }
 
     public static boolean isValidGame(String game) {
-        return VALID_GAMES.stream()
-                .anyMatch(g -> g.equalsIgnoreCase(game.trim()));
+        return canonicalGameName(game) != null;
+    }
+
+    // The VALID_GAMES instance matching game (ignoring case and surrounding spaces), or null.
+    // Runs for every participant built, so it avoids streams and only trims when it has to.
+    public static String canonicalGameName(String game) {
+        if (game == null) {
+            return null;
+        }
+        for (int i = 0; i < VALID_GAMES.size(); i++) {
+            String valid = VALID_GAMES.get(i);
+            if (valid.equalsIgnoreCase(game)) {
+                return valid;
+            }
+        }
+        String trimmed = game.trim();
+        if (trimmed.length() == game.length()) {
+            return null;
+        }
+        for (int i = 0; i < VALID_GAMES.size(); i++) {
+            String valid = VALID_GAMES.get(i);
+            if (valid.equalsIgnoreCase(trimmed)) {
+                return valid;
+            }
+        }
+        return null;
     }
 
 
@@ -56,14 +78,10 @@ public class ValidationService {
             errors.add("Email must be a valid @iit.ac.lk address");
         }
 
-        // Validate Game Interest - WITH NORMALIZATION
+        // Validate Game Interest (Participant already normalizes the name; validation never modifies it)
         String game = participant.getGameInterest();
         if (game == null || game.trim().isEmpty() || !isValidGame(game)) {
             errors.add("Invalid game interest. Valid games: " + String.join(", ", VALID_GAMES));
-        } else {
-            // NORMALIZE the game name here
-            String normalizedGame = normalizeGameName(game);
-            participant.setGameInterest(normalizedGame);
         }
 
         // Validate Skill Level
@@ -100,7 +118,7 @@ public class ValidationService {
 
     public static boolean isValidGameRole(String role) {
         try {
-            GameRole.valueOf(role.toUpperCase());
+            GameRole.fromName(role);
             return true;
         } catch (IllegalArgumentException e) {
             return false;
@@ -0,0 +1,360 @@
+package com.teammate.tools;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.PersonalityType;
+import com.teammate.services.ValidationService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Generates synthetic players.csv rosters of any size for load and scale testing.
+// Rows are streamed one at a time, so memory use does not depend on the row count,
+// and the same seed always produces the same file.
+public class RosterGenerator {
+    public static final String HEADER =
+            "ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore";
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private static final String[] FIRST_NAMES = {
+            "Amal", "Nimali", "Kasun", "Dilini", "Ravi", "Sachini", "Tharindu", "Ishara",
+            "John", "Jane", "Priya", "Arjun", "Maya", "Omar", "Lena", "Chen"
+    };
+    private static final String[] LAST_NAMES = {
+            "Perera", "Silva", "Fernando", "Jayasuriya", "Bandara", "Wickramasinghe",
+            "Smith", "Khan", "Garcia", "Brown", "Lee", "Patel"
+    };
+
+    // Kinds of broken rows that can be injected to exercise the import error path
+    public enum BadRowKind {
+        MISSING_FIELDS,
+        INVALID_EMAIL,
+        SKILL_OUT_OF_RANGE,
+        NON_NUMERIC_SKILL,
+        UNKNOWN_ROLE,
+        SCORE_OUT_OF_RANGE
+    }
+
+    private final long seed;
+    private double[] personalityWeights = uniform(PersonalityType.values().length);
+    private double[] roleWeights = uniform(GameRole.values().length);
+    private double[] gameWeights = uniform(ValidationService.VALID_GAMES.size());
+    private double[] skillWeights = uniform(10);
+    private double badRowRate = 0.0;
+    private long firstId = 1;
+
+    public RosterGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public RosterGenerator withPersonalityWeights(Map<PersonalityType, Double> weights) {
+        double[] values = new double[PersonalityType.values().length];
+        weights.forEach((type, weight) -> values[type.ordinal()] = weight);
+        this.personalityWeights = normalize(values, "personality");
+        return this;
+    }
+
+    public RosterGenerator withRoleWeights(Map<GameRole, Double> weights) {
+        double[] values = new double[GameRole.values().length];
+        weights.forEach((role, weight) -> values[role.ordinal()] = weight);
+        this.roleWeights = normalize(values, "role");
+        return this;
+    }
+
+    public RosterGenerator withGameWeights(Map<String, Double> weights) {
+        List<String> games = ValidationService.VALID_GAMES;
+        double[] values = new double[games.size()];
+        weights.forEach((game, weight) -> {
+            int index = games.indexOf(ValidationService.normalizeGameName(game));
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown game: " + game);
+            }
+            values[index] = weight;
+        });
+        this.gameWeights = normalize(values, "game");
+        return this;
+    }
+
+    // One weight per skill level 1-10
+    public RosterGenerator withSkillWeights(double... weights) {
+        if (weights.length != 10) {
+            throw new IllegalArgumentException("Expected 10 skill weights (levels 1-10), got " + weights.length);
+        }
+        this.skillWeights = normalize(weights.clone(), "skill");
+        return this;
+    }
+
+    // Fraction of rows (0.0-1.0) replaced with an invalid row
+    public RosterGenerator withBadRowRate(double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("Bad row rate must be between 0.0 and 1.0: " + rate);
+        }
+        this.badRowRate = rate;
+        return this;
+    }
+
+    // Number used for the first ParticipantID (P0001 by default)
+    public RosterGenerator withFirstId(long firstId) {
+        if (firstId < 1) {
+            throw new IllegalArgumentException("First ID must be positive: " + firstId);
+        }
+        this.firstId = firstId;
+        return this;
+    }
+
+    // Writes the header plus the given number of rows; returns how many rows were intentionally invalid
+    public long generate(Writer out, long rows) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder line = new StringBuilder(128);
+        long badRows = 0;
+
+        out.write(HEADER);
+        out.write('\n');
+
+        for (long i = 0; i < rows; i++) {
+            line.setLength(0);
+            long idNumber = firstId + i;
+            if (badRowRate > 0.0 && random.nextDouble() < badRowRate) {
+                appendBadRow(line, idNumber, random);
+                badRows++;
+            } else {
+                appendValidRow(line, idNumber, random);
+            }
+            line.append('\n');
+            out.append(line);
+        }
+        out.flush();
+        return badRows;
+    }
+
+    public long generate(Path file, long rows) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE)) {
+            return generate(writer, rows);
+        }
+    }
+
+    private void appendValidRow(StringBuilder line, long idNumber, SplittableRandom random) {
+        PersonalityType type = PersonalityType.values()[pick(personalityWeights, random)];
+        int score = type.getMinScore() + random.nextInt(type.getMaxScore() - type.getMinScore() + 1);
+
+        appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+        line.append(',').append(ValidationService.VALID_GAMES.get(pick(gameWeights, random)))
+                .append(',').append(pick(skillWeights, random) + 1)
+                .append(',').append(GameRole.values()[pick(roleWeights, random)].name())
+                .append(',').append(score);
+    }
+
+    private void appendBadRow(StringBuilder line, long idNumber, SplittableRandom random) {
+        BadRowKind kind = BadRowKind.values()[random.nextInt(BadRowKind.values().length)];
+        String game = ValidationService.VALID_GAMES.get(pick(gameWeights, random));
+        String role = GameRole.values()[pick(roleWeights, random)].name();
+
+        switch (kind) {
+            case MISSING_FIELDS:
+                appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+                line.append(',').append(game);
+                break;
+            case INVALID_EMAIL:
+                appendIdNameEmail(line, idNumber, random, "@gmail.com");
+                line.append(',').append(game).append(",5,").append(role).append(",75");
+                break;
+            case SKILL_OUT_OF_RANGE:
+                appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+                line.append(',').append(game).append(",").append(11 + random.nextInt(90))
+                        .append(',').append(role).append(",75");
+                break;
+            case NON_NUMERIC_SKILL:
+                appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+                line.append(',').append(game).append(",high,").append(role).append(",75");
+                break;
+            case UNKNOWN_ROLE:
+                appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+                line.append(',').append(game).append(",5,GOALKEEPER,75");
+                break;
+            case SCORE_OUT_OF_RANGE:
+                appendIdNameEmail(line, idNumber, random, "@iit.ac.lk");
+                line.append(',').append(game).append(",5,").append(role).append(',').append(random.nextInt(50));
+                break;
+        }
+    }
+
+    private static void appendIdNameEmail(StringBuilder line, long idNumber, SplittableRandom random, String domain) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+        line.append('P');
+        appendPaddedId(line, idNumber);
+        line.append(',').append(first).append(' ').append(last)
+                .append(',').append(first.toLowerCase()).append('.').append(last.toLowerCase())
+                .append(idNumber).append(domain);
+    }
+
+    // Same shape as IdGenerator: at least four digits
+    private static void appendPaddedId(StringBuilder line, long idNumber) {
+        if (idNumber < 1000) line.append('0');
+        if (idNumber < 100) line.append('0');
+        if (idNumber < 10) line.append('0');
+        line.append(idNumber);
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (roll < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static double[] uniform(int size) {
+        double[] weights = new double[size];
+        Arrays.fill(weights, 1.0);
+        return normalize(weights, "default");
+    }
+
+    // Converts raw weights into a cumulative distribution
+    private static double[] normalize(double[] weights, String label) {
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("Negative " + label + " weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("At least one " + label + " weight must be positive");
+        }
+        double running = 0.0;
+        double[] cumulative = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+
+    // CLI: java -cp target/classes com.teammate.tools.RosterGenerator --rows 10000000 --out players.csv
+    public static void main(String[] args) {
+        long rows = 1000;
+        long seed = 42L;
+        String out = "players.csv";
+        RosterGenerator generator;
+
+        try {
+            Map<String, String> options = parseOptions(args);
+            if (options.containsKey("help")) {
+                printUsage();
+                return;
+            }
+            if (options.containsKey("rows")) rows = Long.parseLong(options.get("rows"));
+            if (options.containsKey("seed")) seed = Long.parseLong(options.get("seed"));
+            if (options.containsKey("out")) out = options.get("out");
+
+            generator = new RosterGenerator(seed);
+            if (options.containsKey("first-id")) {
+                generator.withFirstId(Long.parseLong(options.get("first-id")));
+            }
+            if (options.containsKey("bad-rate")) {
+                generator.withBadRowRate(Double.parseDouble(options.get("bad-rate")));
+            }
+            if (options.containsKey("personality")) {
+                double[] w = parseWeights(options.get("personality"), PersonalityType.values().length);
+                generator.withPersonalityWeights(Map.of(
+                        PersonalityType.LEADER, w[PersonalityType.LEADER.ordinal()],
+                        PersonalityType.BALANCED, w[PersonalityType.BALANCED.ordinal()],
+                        PersonalityType.THINKER, w[PersonalityType.THINKER.ordinal()]));
+            }
+            if (options.containsKey("roles")) {
+                double[] w = parseWeights(options.get("roles"), GameRole.values().length);
+                Map<GameRole, Double> roleWeights = new java.util.EnumMap<>(GameRole.class);
+                for (GameRole role : GameRole.values()) {
+                    roleWeights.put(role, w[role.ordinal()]);
+                }
+                generator.withRoleWeights(roleWeights);
+            }
+            if (options.containsKey("games")) {
+                double[] w = parseWeights(options.get("games"), ValidationService.VALID_GAMES.size());
+                Map<String, Double> gameWeights = new java.util.HashMap<>();
+                for (int i = 0; i < w.length; i++) {
+                    gameWeights.put(ValidationService.VALID_GAMES.get(i), w[i]);
+                }
+                generator.withGameWeights(gameWeights);
+            }
+            if (options.containsKey("skill")) {
+                generator.withSkillWeights(parseWeights(options.get("skill"), 10));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            long badRows;
+            if ("-".equals(out)) {
+                Writer stdout = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+                badRows = generator.generate(stdout, rows);
+            } else {
+                badRows = generator.generate(Paths.get(out), rows);
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                System.out.println("✅ Generated " + rows + " rows (" + badRows + " invalid) in " +
+                        millis + " ms: " + Paths.get(out).toAbsolutePath());
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error writing roster: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new java.util.HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--help") || arg.equals("-h")) {
+                options.put("help", "");
+            } else if (arg.startsWith("--") && i + 1 < args.length) {
+                options.put(arg.substring(2), args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static double[] parseWeights(String text, int expected) {
+        String[] parts = text.split(",");
+        if (parts.length != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " comma-separated weights, got: " + text);
+        }
+        double[] weights = new double[expected];
+        for (int i = 0; i < expected; i++) {
+            weights[i] = Double.parseDouble(parts[i].trim());
+        }
+        return weights;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: RosterGenerator [--rows N] [--out FILE|-] [--seed N] [--first-id N] [--bad-rate 0.0-1.0]");
+        System.err.println("                       [--personality L,B,T] [--roles S,D,A,Sup,AR]");
+        System.err.println("                       [--games " + String.join(",", ValidationService.VALID_GAMES) + " weights]");
+        System.err.println("                       [--skill w1,...,w10]");
+    }
+}
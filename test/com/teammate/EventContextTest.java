@@ -0,0 +1,148 @@
+package com.teammate;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventContextTest {
+
+    // TEST 1: Two events keep separate IDs, credentials, survey files and rosters
+    @Test
+    public void events_DoNotShareState(@TempDir Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("spring"));
+        Files.writeString(dir.resolve("spring").resolve("players.csv"),
+                "ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore\n"
+                        + "P0041,Ann Lee,ann@iit.ac.lk,Valorant,7,ATTACKER,95\n");
+
+        try (EventContext spring = EventContext.open("spring", dir.resolve("spring"));
+             EventContext autumn = EventContext.open("autumn", dir.resolve("autumn"))) {
+            assertEquals("P0042", spring.getIds().nextParticipantId());
+            assertEquals("P0001", autumn.getIds().nextParticipantId());
+
+            assertTrue(spring.getCredentials().registerPlayer("ann", "pw1", "ann@iit.ac.lk", "Ann Lee"));
+            assertTrue(Files.exists(dir.resolve("spring").resolve("player_credentials.csv")));
+            assertFalse(autumn.getCredentials().usernameExists("ann"));
+
+            Participant bob = new Participant(autumn.getIds().nextParticipantId(), "Bob Ray", "bob@iit.ac.lk",
+                    "Dota", 4, GameRole.SUPPORT, 60);
+            autumn.getFileHandler().savePlayerToSurveyFile(bob);
+            assertTrue(Files.readString(dir.resolve("autumn").resolve("players.csv")).contains("P0002,Bob Ray"));
+            assertEquals(2, Files.readAllLines(dir.resolve("spring").resolve("players.csv")).size());
+
+            autumn.addParticipants(List.of(bob));
+            Team team = new Team("T1", "Team 1");
+            team.addMember(bob);
+            autumn.setTeams(List.of(team));
+            assertEquals(1, autumn.getParticipants().size());
+            assertTrue(spring.getParticipants().isEmpty());
+            assertTrue(spring.getTeams().isEmpty());
+        }
+    }
+
+    // TEST 2: Events run concurrently on separate threads without duplicate or missing IDs
+    @Test
+    public void concurrentEvents_HandOutIndependentIds(@TempDir Path dir) throws Exception {
+        int events = 4;
+        int idsPerEvent = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(events);
+        try {
+            List<Future<Set<String>>> results = new ArrayList<>();
+            for (int e = 0; e < events; e++) {
+                EventContext context = EventContext.open("event" + e, dir.resolve("event" + e));
+                results.add(executor.submit(() -> {
+                    Set<String> ids = ConcurrentHashMap.newKeySet();
+                    for (int i = 0; i < idsPerEvent; i++) {
+                        ids.add(context.getIds().nextParticipantId());
+                    }
+                    context.close();
+                    return ids;
+                }));
+            }
+            for (Future<Set<String>> result : results) {
+                Set<String> ids = result.get();
+                assertEquals(idsPerEvent, ids.size());
+                assertTrue(ids.contains("P0001"));
+                assertTrue(ids.contains(String.format("P%04d", idsPerEvent)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // TEST 3: Forming, replacing or editing teams keeps the participant-to-team index in step
+    @Test
+    public void teamIndex_FollowsFormedTeams(@TempDir Path dir) throws Exception {
+        try (EventContext event = EventContext.open("spring", dir)) {
+            Participant ann = new Participant("P0001", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95);
+            Participant bob = new Participant("P0002", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60);
+            assertNull(event.findTeamOf(ann));
+
+            Team first = new Team("T1", "Team 1");
+            first.addMember(ann);
+            first.addMember(bob);
+            event.setTeams(List.of(first));
+            assertSame(first, event.findTeamOf(ann));
+            assertSame(first, event.getTeamIndex().teamOfEmail("BOB@iit.ac.lk"));
+            // A profile read back from players.csv under another ID still finds its team by email
+            assertSame(first, event.findTeamOf(
+                    new Participant("P0099", "Bob Ray", "bob@iit.ac.lk", "Dota", 5, GameRole.SUPPORT, 60)));
+            // ...and a profile whose ID collides with a teammate's is not mistaken for them
+            assertNull(event.findTeamOf(
+                    new Participant("P0001", "Cat Kim", "cat@iit.ac.lk", "FIFA", 6, GameRole.DEFENDER, 75)));
+
+            // Moving a member between formed teams updates the index without re-forming
+            Team second = new Team("T3", "Team 3");
+            event.setTeams(List.of(first, second));
+            second.addMember(ann);
+            first.removeMember(ann);
+            assertSame(second, event.findTeamOf(ann));
+            assertSame(second, event.getTeamIndex().teamOf("P0001"));
+            second.removeMember(ann);
+            assertNull(event.findTeamOf(ann));
+            first.addMember(ann);
+
+            Team reformed = new Team("T2", "Team 2");
+            reformed.addMember(bob);
+            event.setTeams(List.of(reformed));
+            assertNull(event.findTeamOf(ann));
+            assertSame(reformed, event.getTeamIndex().teamOf("P0002"));
+            assertEquals(1, event.getTeamIndex().size());
+        }
+    }
+
+    // TEST 4: Pending survey players are handed out as snapshots and trimmed by email
+    @Test
+    public void pendingSurveyPlayers_AreSnapshots(@TempDir Path dir) throws Exception {
+        try (EventContext event = EventContext.open("spring", dir)) {
+            Participant ann = new Participant("P0005", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95);
+            Participant bob = new Participant("P0006", "Bob Ray", "Bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60);
+            event.addPendingSurveyPlayers(List.of(ann, bob));
+
+            List<Participant> pending = event.getPendingSurveyPlayers();
+            assertThrows(UnsupportedOperationException.class, () -> pending.add(ann));
+            assertEquals("P0007", event.getIds().peekNextParticipantId());
+
+            Participant bobUpdated = bob.withSkillLevel(9);
+            event.addPendingSurveyPlayers(List.of(bobUpdated));
+            assertEquals(List.of(ann, bobUpdated), event.getPendingSurveyPlayers());
+            assertEquals(List.of(ann, bob), pending);
+
+            assertEquals(1, event.retainPendingSurveyPlayers(List.of(bob)));
+            assertEquals(List.of(bobUpdated), event.getPendingSurveyPlayers());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.teammate;
+
+import com.teammate.auth.CredentialManager;
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionSnapshotTest {
+
+    // TEST 1: A restored event has the same roster, teams, analysis, credentials, pending survey
+    // players and IDs, and can save over the snapshot it came from
+    @Test
+    public void snapshot_RestoresWholeSession(@TempDir Path dir) throws Exception {
+        Path snapshot = dir.resolve(SessionSnapshot.DEFAULT_FILE);
+        Participant ann = new Participant("P0007", "Zoë Ann", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95);
+        Participant bob = new Participant("P0012", "Bob Ray", "bob@iit.ac.lk", "Chess", 4, GameRole.SUPPORT, 60);
+        Participant cat = new Participant("P0020", "Cat Kim", "cat@iit.ac.lk", "FIFA", 6, GameRole.DEFENDER, 75);
+        Map<String, Object> analysis = new LinkedHashMap<>();
+        analysis.put("total_teams", 1);
+        analysis.put("average_team_skill", "5.50");
+
+        try (EventContext before = EventContext.open("spring", dir.resolve("before"))) {
+            before.addParticipants(List.of(ann, bob));
+            Team team = new Team("T1", "Team \"1\"");
+            team.addMember(bob);
+            team.addMember(ann);
+            before.setTeams(List.of(team));
+            before.setAnalysis(before.getTeams(), analysis);
+            before.getCredentials().registerPlayer("ann", "pw", "ann@iit.ac.lk", "Ann");
+            before.addPendingSurveyPlayers(List.of(cat));
+            SessionSnapshot.save(before, snapshot);
+        }
+        assertFalse(Files.exists(dir.resolve(SessionSnapshot.DEFAULT_FILE + ".tmp")));
+
+        try (EventContext after = EventContext.open("spring", dir.resolve("after"))) {
+            SessionSnapshot.restore(after, snapshot);
+
+            assertEquals(List.of(ann, bob), after.getParticipants());
+            assertEquals("Zoë Ann", after.getParticipants().get(0).getName());
+            assertEquals(1, after.getTeams().size());
+            assertEquals("Team \"1\"", after.getTeams().get(0).getTeamName());
+            assertSame(after.getParticipants().get(1), after.getTeams().get(0).getMembersView().get(0));
+            assertSame(after.getTeams().get(0), after.findTeamOf(ann));
+            assertEquals(analysis, after.getAnalysis());
+            assertTrue(after.getCredentials().authenticatePlayer("ann", "pw"));
+            assertEquals(List.of(cat), after.getPendingSurveyPlayers());
+            assertEquals("Cat Kim", after.getPendingSurveyPlayers().get(0).getName());
+            assertEquals("P0021", after.getIds().peekNextParticipantId());
+            assertThrows(IllegalStateException.class, () -> SessionSnapshot.restore(after, snapshot));
+
+            SessionSnapshot.save(after, snapshot);
+        }
+        try (EventContext again = EventContext.open("spring", dir.resolve("again"))) {
+            SessionSnapshot.restore(again, snapshot);
+            assertEquals(List.of(ann, bob), again.getParticipants());
+        }
+    }
+
+    // TEST 2: A damaged snapshot is refused and leaves the event untouched
+    @Test
+    public void corruptSnapshot_IsRejected(@TempDir Path dir) throws Exception {
+        Path snapshot = dir.resolve(SessionSnapshot.DEFAULT_FILE);
+        try (EventContext event = EventContext.open("spring", dir.resolve("event"))) {
+            event.addParticipants(List.of(
+                    new Participant("P0001", "Ann Lee", "ann@iit.ac.lk", "Dota", 5, GameRole.DEFENDER, 80)));
+            SessionSnapshot.save(event, snapshot);
+        }
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 3] ^= 0x40;
+        Files.write(snapshot, bytes);
+
+        try (EventContext event = EventContext.open("spring", dir.resolve("fresh"))) {
+            IOException e = assertThrows(IOException.class, () -> SessionSnapshot.restore(event, snapshot));
+            assertTrue(e.getMessage().contains("checksum"));
+            assertTrue(event.getParticipants().isEmpty());
+        }
+    }
+
+    // TEST 3: A snapshot with a valid checksum but an impossible text length fails with IOException
+    @Test
+    public void negativeTextLength_IsRejected(@TempDir Path dir) throws Exception {
+        ByteBuffer payload = ByteBuffer.allocate(12).putInt(1).putInt(1).putInt(-5);
+        payload.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer file = ByteBuffer.allocate(SessionSnapshot.HEADER_SIZE + payload.remaining());
+        file.putInt(SessionSnapshot.MAGIC).putShort(SessionSnapshot.VERSION).putShort((short) 0)
+                .putLong(payload.remaining()).putInt((int) crc.getValue()).putInt(0).put(payload);
+        Path snapshot = dir.resolve(SessionSnapshot.DEFAULT_FILE);
+        Files.write(snapshot, file.array());
+
+        try (EventContext event = EventContext.open("spring", dir.resolve("event"))) {
+            IOException e = assertThrows(IOException.class, () -> SessionSnapshot.restore(event, snapshot));
+            assertTrue(e.getMessage().contains("length -5"));
+            assertTrue(event.getParticipants().isEmpty());
+        }
+    }
+
+    // TEST 4: An existing credentials file wins: accounts removed from it do not return from a snapshot
+    @Test
+    public void credentialsFile_IsAuthoritative(@TempDir Path dir) throws Exception {
+        Path snapshot = dir.resolve(SessionSnapshot.DEFAULT_FILE);
+        try (EventContext before = EventContext.open("spring", dir.resolve("event"))) {
+            before.getCredentials().registerPlayer("ann", "pw", "ann@iit.ac.lk", "Ann");
+            before.getCredentials().registerPlayer("bob", "pw", "bob@iit.ac.lk", "Bob");
+            SessionSnapshot.save(before, snapshot);
+        }
+        // The organizer restores an older credentials file that only has ann
+        Path credentials = dir.resolve("event").resolve(CredentialManager.DEFAULT_FILE);
+        List<String> lines = Files.readAllLines(credentials);
+        Files.write(credentials, lines.stream().filter(line -> !line.startsWith("bob,")).collect(Collectors.toList()));
+
+        try (EventContext after = EventContext.open("spring", dir.resolve("event"))) {
+            SessionSnapshot.restore(after, snapshot);
+            assertTrue(after.getCredentials().authenticatePlayer("ann", "pw"));
+            assertFalse(after.getCredentials().authenticatePlayer("bob", "pw"));
+        }
+        assertFalse(Files.readString(credentials).contains("bob,"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.teammate.metrics;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.services.FileHandler;
+import com.teammate.services.TeamBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrEventsTest {
+
+    // TEST 1: Formation phases and file writes show up in a recording
+    @Test
+    public void formationAndFileEvents_AreRecorded(@TempDir Path dir) throws Exception {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            participants.add(new Participant("User" + i, "user" + i + "@iit.ac.lk", "Valorant",
+                    5, GameRole.values()[i % GameRole.values().length], 50 + i * 5));
+        }
+        Path teamsFile = dir.resolve("teams.csv");
+        Path recordingFile = dir.resolve("run.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.teammate.FormationPhase");
+            recording.enable("com.teammate.FileIO");
+            recording.start();
+
+            new FileHandler().saveTeams(new TeamBuilder(5, participants).formTeams(), teamsFile.toString());
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<String> phases = new ArrayList<>();
+        RecordedEvent fileEvent = null;
+        for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+            String type = event.getEventType().getName();
+            if (type.equals("com.teammate.FormationPhase")) {
+                phases.add(event.getString("phase"));
+            } else if (type.equals("com.teammate.FileIO")) {
+                fileEvent = event;
+            }
+        }
+
+        assertEquals(List.of("leaders", "thinkers", "balanced", "fill"), phases);
+        assertNotNull(fileEvent);
+        assertEquals("write", fileEvent.getString("operation"));
+        assertEquals(2, fileEvent.getLong("rows"));
+        assertTrue(fileEvent.getLong("bytes") > 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.teammate.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    @BeforeEach
+    public void setUp() {
+        MetricsRegistry.setEnabled(true);
+        MetricsRegistry.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MetricsRegistry.setEnabled(false);
+        MetricsRegistry.reset();
+    }
+
+    // TEST 1: Counters and histograms record while enabled
+    @Test
+    public void recordsWhenEnabled() {
+        Counter counter = MetricsRegistry.counter("test_events_total", "Test events");
+        LatencyHistogram histogram = MetricsRegistry.histogram("test_latency_seconds", "Test latency");
+
+        counter.add(3);
+        histogram.recordNanos(5_000);
+        histogram.recordNanos(2_000_000);
+
+        assertEquals(3, counter.get());
+        assertEquals(2, histogram.getCount());
+        assertEquals(2_000_000, histogram.getMaxNanos());
+        assertSame(counter, MetricsRegistry.counter("test_events_total", "Test events"));
+    }
+
+    // TEST 2: Nothing is recorded while disabled
+    @Test
+    public void ignoresRecordsWhenDisabled() {
+        Counter counter = MetricsRegistry.counter("test_disabled_total", "Disabled events");
+        MetricsRegistry.setEnabled(false);
+
+        counter.increment();
+        assertEquals(0L, MetricsRegistry.startTimer());
+        assertEquals(0, counter.get());
+    }
+
+    // TEST 3: Prometheus export has HELP/TYPE lines, labels and cumulative buckets
+    @Test
+    public void prometheusExport_Format() {
+        LatencyHistogram phase = MetricsRegistry.histogram("test_phase_seconds", "Phase time", "phase", "leaders");
+        phase.recordNanos(1_500);
+
+        String text = MetricsExporter.toPrometheus();
+
+        assertTrue(text.contains("# TYPE test_phase_seconds histogram"));
+        assertTrue(text.contains("test_phase_seconds_bucket{phase=\"leaders\",le=\"+Inf\"} 1"));
+        assertTrue(text.contains("test_phase_seconds_count{phase=\"leaders\"} 1"));
+        assertTrue(MetricsExporter.toJson().contains("\"name\": \"test_phase_seconds\""));
+    }
+}
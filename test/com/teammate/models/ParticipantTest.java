@@ -0,0 +1,46 @@
+package com.teammate.models;
+
+import com.teammate.services.ValidationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticipantTest {
+
+    // TEST 1: Withers return updated copies and leave the original untouched
+    @Test
+    public void withers_CopyInsteadOfMutating() {
+        Participant original = new Participant("P0007", "Ann Lee", "ann@iit.ac.lk", "valorant", 6, GameRole.SUPPORT, 70);
+
+        Participant updated = original.withSkillLevel(9).withPersonalityScore(95);
+
+        assertEquals("Valorant", original.getGameInterest());
+        assertEquals(6, original.getSkillLevel());
+        assertEquals(PersonalityType.BALANCED, original.getPersonalityType());
+        assertEquals("P0007", updated.getParticipantId());
+        assertEquals(9, updated.getSkillLevel());
+        assertEquals(PersonalityType.LEADER, updated.getPersonalityType());
+        assertNotEquals(original, updated);
+        assertThrows(IllegalArgumentException.class, () -> original.withPersonalityScore(101));
+    }
+
+    // TEST 2: Equal values are equal map keys, and validation does not change a participant
+    @Test
+    public void equalValues_AreInterchangeableKeys() {
+        Participant a = new Participant("P0001", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.ATTACKER, 60);
+        Participant b = new Participant("P0001", "Bob Ray", "bob@iit.ac.lk", "DOTA", 4, GameRole.ATTACKER, 60);
+
+        Map<Participant, String> teamOf = new HashMap<>();
+        teamOf.put(a, "T1");
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals("T1", teamOf.get(b));
+        assertTrue(ValidationService.validateParticipantData(b).isEmpty());
+        assertEquals(a, b);
+        assertEquals(a, a.withName("Bob Ray"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.teammate.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TeamTest {
+
+    // TEST 1: Removing a member keeps totals, role and personality counts in step
+    @Test
+    public void removeMember_UpdatesAggregates() {
+        Participant ann = new Participant("P0001", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95);
+        Participant bob = new Participant("P0002", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60);
+        Participant cat = new Participant("P0003", "Cat Kim", "cat@iit.ac.lk", "FIFA", 6, GameRole.DEFENDER, 75);
+        Team team = new Team("T1", "Team 1");
+        team.addMember(ann);
+        team.addMember(bob);
+        team.addMember(cat);
+        assertThrows(IllegalArgumentException.class, () -> team.addMember(bob));
+
+        team.removeMember(ann);
+
+        assertEquals(2, team.getSize());
+        assertEquals(List.of(cat, bob), team.getMembersView());
+        assertFalse(team.contains(ann));
+        assertTrue(team.contains(bob));
+        assertFalse(team.hasLeader());
+        assertFalse(team.hasRole(GameRole.ATTACKER));
+        assertEquals(10, team.getTotalSkill());
+        assertEquals(5.0, team.getAverageSkill());
+
+        team.removeMember(ann);
+        team.removeMember(cat);
+        team.removeMember(bob);
+        assertEquals(0, team.getSize());
+        assertEquals(0, team.getRoleMask());
+        assertEquals(0.0, team.getAverageSkill());
+    }
+}
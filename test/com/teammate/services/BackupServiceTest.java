@@ -0,0 +1,86 @@
+package com.teammate.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BackupServiceTest {
+
+    private static long chunkCount(Path root) throws Exception {
+        try (Stream<Path> files = Files.walk(root.resolve("chunks"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    // TEST 1: Unchanged files add no chunks; a multi-chunk file round-trips
+    @Test
+    public void backup_DeduplicatesAndRestores(@TempDir Path dir) throws Exception {
+        Path data = Files.createDirectories(dir.resolve("data"));
+        Path players = data.resolve("players.csv");
+        Path teams = data.resolve("formed_teams_1.csv");
+        StringBuilder big = new StringBuilder();
+        while (big.length() < BackupService.CHUNK_SIZE * 2 + 100) {
+            big.append("P0001,Ann Lee,ann@iit.ac.lk,Valorant,7,ATTACKER,95\n");
+        }
+        Files.writeString(players, big);
+        Files.writeString(teams, "TeamID,TeamName\nT1,Team 1\n");
+
+        BackupService service = new BackupService(dir.resolve("backups"), 2);
+        BackupService.Manifest first = service.backup(List.of(players, teams, data.resolve("missing.csv")));
+        assertEquals(2, first.getEntries().size());
+        long chunksAfterFirst = chunkCount(dir.resolve("backups"));
+
+        // Same content again: only a new manifest
+        service.backup(List.of(players, teams));
+        assertEquals(chunksAfterFirst, chunkCount(dir.resolve("backups")));
+
+        Files.writeString(teams, "changed");
+        service.backup(List.of(players, teams));
+        assertEquals(chunksAfterFirst + 1, chunkCount(dir.resolve("backups")));
+
+        Path restored = dir.resolve("restored");
+        service.restore(first, restored);
+        assertEquals(big.toString(), Files.readString(restored.resolve("players.csv")));
+        assertEquals("TeamID,TeamName\nT1,Team 1\n", Files.readString(restored.resolve("formed_teams_1.csv")));
+    }
+
+    // TEST 2: Pruning drops old manifests and their unreferenced chunks
+    @Test
+    public void prune_RemovesUnreferencedChunks(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        BackupService service = new BackupService(dir.resolve("backups"));
+        Files.writeString(file, "version 1");
+        service.backup(List.of(file));
+        Files.writeString(file, "version 2, longer");
+        service.backup(List.of(file));
+
+        assertEquals(1, service.prune(1));
+        List<BackupService.Manifest> remaining = service.listBackups();
+        assertEquals(1, remaining.size());
+
+        service.restore(remaining.get(0), dir.resolve("out"));
+        assertEquals("version 2, longer", Files.readString(dir.resolve("out").resolve("players.csv")));
+    }
+
+    // TEST 3: A chunk left short (crash before it reached disk) is rewritten instead of reused
+    @Test
+    public void shortChunk_IsRewritten(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        BackupService service = new BackupService(dir.resolve("backups"));
+        Files.writeString(file, "P0001,Ann Lee,ann@iit.ac.lk,Valorant,7,ATTACKER,95\n");
+        BackupService.Manifest first = service.backup(List.of(file));
+
+        String hash = first.getEntries().get(0).getChunks().get(0);
+        Path chunk = dir.resolve("backups").resolve("chunks").resolve(hash.substring(0, 2)).resolve(hash);
+        Files.write(chunk, new byte[0]);
+
+        BackupService.Manifest second = service.backup(List.of(file));
+        assertEquals(Files.size(file), Files.size(chunk));
+        service.restore(second, dir.resolve("out"));
+        assertEquals(Files.readString(file), Files.readString(dir.resolve("out").resolve("players.csv")));
+    }
+}
@@ -0,0 +1,51 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandidateBucketsTest {
+
+    // TEST 1: Draining matches a stable descending sort by personality score
+    @Test
+    public void drainDescending_MatchesStableSort() {
+        Random random = new Random(7);
+        List<Participant> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(new Participant(String.format("P%04d", i), "Player " + i, "p" + i + "@iit.ac.lk",
+                    "Chess", 1 + random.nextInt(10), GameRole.SUPPORT, 50 + random.nextInt(51)));
+        }
+
+        CandidateBuckets<Participant> buckets = CandidateBuckets.byPersonalityScore();
+        buckets.addAll(roster);
+        List<Participant> drained = new ArrayList<>();
+        buckets.drainDescending(drained);
+
+        List<Participant> sorted = new ArrayList<>(roster);
+        sorted.sort(Comparator.comparingInt(Participant::getPersonalityScore).reversed());
+        assertEquals(sorted, drained);
+        assertTrue(buckets.isEmpty());
+    }
+
+    // TEST 2: Interleaved adds and polls at both ends
+    @Test
+    public void poll_TracksHighestAndLowest() {
+        CandidateBuckets<Integer> buckets = new CandidateBuckets<>(0, 10, Integer::intValue);
+        buckets.add(5);
+        buckets.add(2);
+        buckets.add(42); // clamped into the top bucket
+        assertEquals(42, buckets.pollHighest());
+        assertEquals(2, buckets.pollLowest());
+        buckets.add(9);
+        buckets.add(1);
+        assertEquals(9, buckets.pollHighest());
+        assertEquals(1, buckets.pollLowest());
+        assertEquals(5, buckets.pollHighest());
+        assertNull(buckets.pollLowest());
+    }
+}
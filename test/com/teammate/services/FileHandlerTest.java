@@ -1,10 +1,18 @@
 package com.teammate.services;
 
+import com.teammate.exceptions.FileProcessingException;
 import com.teammate.models.Participant;
 import com.teammate.models.GameRole;
+import com.teammate.models.Team;
+import com.teammate.models.TeamRecord;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class FileHandlerTest {
@@ -48,5 +56,204 @@ public class FileHandlerTest {
         new File("test_save.csv").delete();
     }
 
+    // TEST 4: Streaming team export keeps the original formed_teams layout
+    @Test
+    public void saveTeams_MatchesOriginalLayout(@TempDir Path dir) throws Exception {
+        Team team = new Team("T1", "Team 1");
+        team.addMember(new Participant("P0101", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95));
+        team.addMember(new Participant("P0102", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60));
+        team.addMember(new Participant("P0103", "Cat Kim", "cat@iit.ac.lk", "valorant", 6, GameRole.DEFENDER, 75));
+
+        Path file = dir.resolve("teams.csv");
+        new FileHandler().saveTeams(List.of(team), file.toString());
+
+        String expectedMembers = String.join("; ", team.getMembers().stream()
+                .map(Participant::toString).toArray(String[]::new));
+        String expectedRow = String.format(Locale.ROOT, "%s,%s,%d,%.2f,\"%s\",\"%s\"", "T1", "Team 1", 3,
+                team.getAverageSkill(), expectedMembers, "Valorant, Dota");
+        assertEquals(List.of("TeamID,TeamName,MemberCount,AverageSkill,Members,GameInterests", expectedRow),
+                Files.readAllLines(file));
+    }
+
+    // TEST 5: Member-row layout escapes quotes and commas
+    @Test
+    public void saveTeams_MemberRowsAreEscaped(@TempDir Path dir) throws Exception {
+        Team team = new Team("T1", "Team \"A\", North");
+        team.addMember(new Participant("P0201", "Dee O'Neil", "dee@iit.ac.lk", "FIFA", 5, GameRole.STRATEGIST, 80));
+
+        Path file = dir.resolve("members.csv");
+        new FileHandler().saveTeams(List.of(team), file.toString(), TeamCsvWriter.Layout.MEMBER_ROWS);
+
+        assertEquals("T1,\"Team \"\"A\"\", North\",P0201,Dee O'Neil,dee@iit.ac.lk,FIFA,5,STRATEGIST,80",
+                Files.readAllLines(file).get(1));
+    }
+
+    // TEST 6: JSON Lines and binary exports read back to the same teams
+    @Test
+    public void exportTeams_RoundTripsJsonLinesAndBinary(@TempDir Path dir) throws Exception {
+        Participant ann = new Participant("P0301", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95);
+        Participant bob = new Participant("P0302", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60);
+        Team team = new Team("T1", "Team \"One\"\n");
+        team.addMember(ann);
+        team.addMember(bob);
+
+        FileHandler fh = new FileHandler();
+        for (TeamExportFormat format : List.of(TeamExportFormat.JSON_LINES, TeamExportFormat.BINARY)) {
+            Path file = dir.resolve("teams." + format.getExtension());
+            fh.exportTeams(List.of(team), file.toString(), format);
+
+            List<TeamRecord> records = fh.loadTeamRecords(file.toString());
+            assertEquals(1, records.size());
+            assertEquals("Team \"One\"\n", records.get(0).getTeamName());
+            assertEquals(List.of("P0301", "P0302"), records.get(0).getMemberIds());
+
+            Team restored = records.get(0).toTeam(Map.of("P0301", ann, "P0302", bob));
+            assertEquals(team.getTotalSkill(), restored.getTotalSkill());
+        }
+
+        // Unknown fields are skipped whatever their shape; a null key is a parse error, not an NPE
+        Path extended = dir.resolve("extended.jsonl");
+        Files.writeString(extended, "{\"meta\":{\"tags\":[1,{\"a\":[]}],\"ok\":true},\"teamId\":\"T9\","
+                + "\"scores\":[[1,2],[3]],\"memberIds\":[\"P0301\"],\"note\":null}\n");
+        List<TeamRecord> records = fh.loadTeamRecords(extended.toString());
+        assertEquals("T9", records.get(0).getTeamId());
+        assertEquals(List.of("P0301"), records.get(0).getMemberIds());
+
+        Files.writeString(extended, "{null:\"T1\"}\n");
+        assertThrows(Exception.class, () -> fh.loadTeamRecords(extended.toString()));
+
+        // A binary file with a negative or impossible team count is a read error, not a crash
+        Path damaged = dir.resolve("damaged.teams");
+        for (int teamCount : new int[]{-1, Integer.MAX_VALUE}) {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(damaged))) {
+                out.writeInt(BinaryTeamCodec.MAGIC);
+                out.writeShort(BinaryTeamCodec.VERSION);
+                out.writeInt(teamCount);
+            }
+            assertThrows(FileProcessingException.class, () -> fh.loadTeamRecords(damaged.toString()));
+        }
+    }
+
+    // TEST 7: .csv.gz files are written and read transparently
+    @Test
+    public void gzipFiles_AreReadAndWrittenTransparently(@TempDir Path dir) throws Exception {
+        Path players = dir.resolve("players.csv.gz");
+        FileHandler fh = new FileHandler();
+        fh.saveParticipant(new Participant("P0401", "Ann Lee", "ann@iit.ac.lk", "Valorant", 7, GameRole.ATTACKER, 95), players.toString());
+        fh.saveParticipant(new Participant("P0402", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.SUPPORT, 60), players.toString());
 
-}
\ No newline at end of file
+        // Appends add gzip members; the reader sees one continuous file
+        List<Participant> loaded = fh.loadParticipants(players.toString());
+        assertEquals(2, loaded.size());
+        assertEquals("Bob Ray", loaded.get(1).getName());
+
+        Team team = new Team("T1", "Team 1");
+        loaded.forEach(team::addMember);
+        Path teams = dir.resolve("teams.csv.gz");
+        fh.saveTeams(List.of(team), teams.toString());
+        try (java.util.zip.GZIPInputStream in = new java.util.zip.GZIPInputStream(Files.newInputStream(teams))) {
+            assertTrue(new String(in.readAllBytes()).startsWith("TeamID,TeamName,MemberCount"));
+        }
+    }
+
+    // TEST 8: Projected loading keeps the same rows as a full load, across chunk boundaries
+    @Test
+    public void projectedLoad_MatchesFullLoad(@TempDir Path dir) throws Exception {
+        Path players = dir.resolve("players.csv");
+        StringBuilder csv = new StringBuilder("ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore\r\n");
+        for (int i = 1; i <= 200; i++) {
+            csv.append(String.format("P%04d, Zoë Núñez %d ,zoe%d@IIT.ac.lk,%s,%d,%s,%d\r\n", i, i, i,
+                    i % 3 == 0 ? "csgo" : "Valorant", 1 + i % 10, i % 2 == 0 ? "strategist" : "DEFENDER", 50 + i % 51));
+        }
+        csv.append("P0201,Bad Mail,bad@gmail.com,Dota,5,SUPPORT,70\n");
+        csv.append("P0202,Bad Role,role@iit.ac.lk,Dota,5,HEALER,70\n");
+        csv.append("P0203,,empty@iit.ac.lk,Dota,5,SUPPORT,70\n");
+        csv.append("P0204,Short Row,short@iit.ac.lk\n\n");
+        csv.append("P0205,Last Row,last@iit.ac.lk,Chess,10,ATTACKER,100");
+        Files.writeString(players, csv.toString());
+
+        FileHandler fh = new FileHandler(dir, new com.teammate.models.IdSequencer());
+        List<Participant> full = fh.loadParticipants(players.toString());
+        List<Participant> projected = fh.loadParticipantsProjected(players.toString());
+        assertEquals(201, full.size());
+        assertEquals(full, projected);
+
+        ProjectedParticipantReader smallChunks = new ProjectedParticipantReader(64);
+        List<Participant> chunked = smallChunks.read(players);
+        assertEquals(full, chunked);
+        assertEquals(4, smallChunks.getRejectedCount());
+        assertEquals("Zoë Núñez 7", chunked.get(6).getName());
+        assertSame("CSGO", chunked.get(2).getGameInterest());
+        assertEquals(GameRole.STRATEGIST, chunked.get(1).getPreferredRole());
+    }
+
+    // TEST 9: Parsed game and role values are shared canonical instances; the interner stays bounded
+    @Test
+    public void parsedFields_AreCanonicalInstances(@TempDir Path dir) throws Exception {
+        Path players = dir.resolve("players.csv");
+        Files.writeString(players, "ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore\n"
+                + "P0001,Ann Lee,ann@iit.ac.lk,valorant,7,attacker,95\n"
+                + "P0002,Bob Ray,bob@iit.ac.lk, VALORANT ,4,Support,60\n"
+                + "P0003,Cy Dee,cy@iit.ac.lk,Chess,5,ATTACKER,70\n"
+                + "P0004,Di Eve,di@iit.ac.lk,Chess,6,SUPPORT,80\n");
+
+        List<Participant> loaded = new FileHandler(dir, new com.teammate.models.IdSequencer())
+                .loadParticipants(players.toString());
+        assertSame(ValidationService.VALID_GAMES.get(0), loaded.get(0).getGameInterest());
+        assertSame(loaded.get(0).getGameInterest(), loaded.get(1).getGameInterest());
+        assertSame(loaded.get(2).getGameInterest(), loaded.get(3).getGameInterest());
+        assertSame(GameRole.ATTACKER, loaded.get(0).getPreferredRole());
+
+        FieldInterner interner = new FieldInterner(2);
+        interner.intern(new String("a"));
+        interner.intern(new String("b"));
+        String c = new String("c");
+        assertSame(c, interner.intern(c));
+        assertNotSame(c, interner.intern(new String("c")));
+        assertEquals(2, interner.size());
+    }
+
+    // TEST 10: Formed teams files read back in both layouts, plain or gzip, in any chunking
+    @Test
+    public void formedTeamsFiles_RoundTrip(@TempDir Path dir) throws Exception {
+        List<Participant> roster = new java.util.ArrayList<>();
+        List<Team> teams = new java.util.ArrayList<>();
+        for (int t = 0; t < 40; t++) {
+            Team team = new Team("T" + t, t % 3 == 0 ? "Team \"" + t + "\",\nnext line" : "Team (" + t + ") - x");
+            for (int m = 0; m < 4; m++) {
+                int id = t * 4 + m + 1;
+                Participant p = new Participant(String.format("P%04d", id), "Name (" + m + "); Jr", "p" + id + "@iit.ac.lk",
+                        "Valorant", 1 + m, GameRole.values()[m], 60 + m);
+                roster.add(p);
+                team.addMember(p);
+            }
+            teams.add(team);
+        }
+
+        FileHandler fh = new FileHandler(dir, new com.teammate.models.IdSequencer());
+        for (String name : List.of("teams.csv", "members.csv", "teams.csv.gz", "members.csv.gz")) {
+            Path file = dir.resolve(name);
+            fh.saveTeams(teams, file.toString(), name.startsWith("members")
+                    ? TeamCsvWriter.Layout.MEMBER_ROWS : TeamCsvWriter.Layout.TEAM_ROWS);
+
+            for (FormedTeamsReader reader : List.of(new FormedTeamsReader(1), new FormedTeamsReader(97, 4))) {
+                List<TeamRecord> records = reader.read(file);
+                assertEquals(0, reader.getRejectedRows(), name);
+                assertEquals(teams.size(), records.size(), name);
+                for (int t = 0; t < teams.size(); t++) {
+                    assertEquals(TeamRecord.of(teams.get(t)).getMemberIds(), records.get(t).getMemberIds(), name);
+                    assertEquals(teams.get(t).getTeamName(), records.get(t).getTeamName(), name);
+                }
+            }
+
+            List<Team> loaded = fh.loadFormedTeams(file.toString(), roster);
+            assertEquals(teams.size(), loaded.size());
+            assertSame(roster.get(5), loaded.get(1).getMembersView().get(1));
+        }
+
+        // A team naming a participant the roster no longer has is skipped, the rest still load
+        List<Team> partial = fh.loadFormedTeams(dir.resolve("teams.csv").toString(), roster.subList(4, roster.size()));
+        assertEquals(teams.size() - 1, partial.size());
+        assertEquals("T1", partial.get(0).getTeamId());
+    }
+}
@@ -0,0 +1,66 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterIndexTest {
+
+    // TEST 1: Filtered, sorted pages match a full scan, for both sparse and dense filters;
+    // ties are ordered by ID in either direction
+    @Test
+    public void pagedQueries_MatchFullScan() {
+        List<Participant> roster = TestRosters.random(2000, 7, "Valorant", "Dota", "FIFA", "CSGO");
+        RosterIndex index = new RosterIndex(roster);
+
+        List<RosterQuery> queries = List.of(
+                RosterQuery.all().sortedBy(RosterQuery.SortKey.SKILL, true),
+                RosterQuery.all().withRole(GameRole.DEFENDER).sortedBy(RosterQuery.SortKey.PERSONALITY_SCORE, false),
+                RosterQuery.all().withGame("dota").withPersonality(PersonalityType.LEADER).withSkillBetween(3, 6)
+                        .sortedBy(RosterQuery.SortKey.NAME, false),
+                RosterQuery.all().withGame("Chess"));
+
+        for (RosterQuery query : queries) {
+            List<Participant> expected = roster.stream()
+                    .filter(p -> query.getGame() == null || query.getGame().equals(p.getGameInterest()))
+                    .filter(p -> query.getRole() == null || query.getRole() == p.getPreferredRole())
+                    .filter(p -> query.getPersonality() == null || query.getPersonality() == p.getPersonalityType())
+                    .filter(p -> p.getSkillLevel() >= query.getMinSkill() && p.getSkillLevel() <= query.getMaxSkill())
+                    .sorted(comparator(query.getSortKey(), query.isDescending()))
+                    .collect(Collectors.toList());
+
+            assertEquals(expected.size(), index.count(query));
+            List<Participant> paged = new ArrayList<>();
+            RosterPage page = index.query(query, 0, 37);
+            while (true) {
+                paged.addAll(page.getParticipants());
+                if (!page.hasNext()) break;
+                page = index.query(query, page.getPage() + 1, 37);
+            }
+            assertEquals(expected, paged);
+            assertEquals(expected.size(), page.getTotalMatches());
+        }
+        assertTrue(index.query(RosterQuery.all(), 1000, 20).getParticipants().isEmpty());
+    }
+
+    private static Comparator<Participant> comparator(RosterQuery.SortKey key, boolean descending) {
+        Comparator<Participant> byId = Comparator.<Participant>comparingInt(p -> p.getParticipantId().length())
+                .thenComparing(Participant::getParticipantId);
+        Comparator<Participant> byKey;
+        switch (key) {
+            case NAME: byKey = Comparator.comparing(Participant::getName, String.CASE_INSENSITIVE_ORDER); break;
+            case SKILL: byKey = Comparator.comparingInt(Participant::getSkillLevel); break;
+            case PERSONALITY_SCORE: byKey = Comparator.comparingInt(Participant::getPersonalityScore); break;
+            default: byKey = byId;
+        }
+        return (descending ? byKey.reversed() : byKey).thenComparing(byId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.teammate.services;
+
+import com.teammate.models.Participant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SurveyFileWatcherTest {
+
+    private static final String HEADER = "ParticipantID,Name,Email,GameInterest,SkillLevel,PreferredRole,PersonalityScore\n";
+
+    private static void append(Path file, String text) throws Exception {
+        Files.writeString(file, text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // TEST 1: Only appended, complete lines are parsed
+    @Test
+    public void poll_ReadsOnlyAppendedCompleteLines(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        append(file, HEADER + "P0001,Ann Lee,ann@iit.ac.lk,Valorant,7,ATTACKER,95\n");
+
+        SurveyFileWatcher watcher = new SurveyFileWatcher(file);
+        assertEquals(1, watcher.poll());
+
+        // Second row is still being written: no newline yet
+        append(file, "P0002,Bob Ray,bob@iit.ac.lk,Dota,4,SUPPORT,60\nP0003,Cat Kim,cat@iit");
+        assertEquals(1, watcher.poll());
+        append(file, ".ac.lk,FIFA,6,DEFENDER,75\n");
+        assertEquals(1, watcher.poll());
+        assertEquals(0, watcher.poll());
+
+        List<Participant> found = new ArrayList<>();
+        watcher.drainNewParticipants(found);
+        assertEquals(List.of("Ann Lee", "Bob Ray", "Cat Kim"), found.stream().map(Participant::getName).toList());
+    }
+
+    // TEST 2: The committed offset survives a restart; uncommitted rows and rewrites are read again
+    @Test
+    public void checkpoint_ResumesAndResetsOnRewrite(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        append(file, HEADER + "P0001,Ann Lee,ann@iit.ac.lk,Valorant,7,ATTACKER,95\n");
+
+        SurveyFileWatcher first = new SurveyFileWatcher(file);
+        first.poll();
+        first.drainNewParticipants(new ArrayList<>());
+        // Drained but not imported yet: a restart must not skip the row
+        assertFalse(Files.exists(dir.resolve("players.csv.offset")));
+        assertEquals(1, new SurveyFileWatcher(file).poll());
+
+        first.commitCheckpoint();
+        assertTrue(Files.exists(dir.resolve("players.csv.offset")));
+
+        append(file, "P0002,Bob Ray,bob@iit.ac.lk,Dota,4,SUPPORT,60\n");
+        SurveyFileWatcher second = new SurveyFileWatcher(file);
+        assertEquals(1, second.poll());
+        second.drainNewParticipants(new ArrayList<>());
+        second.commitCheckpoint();
+
+        // Same size, different content (survey updated in place): re-read everything
+        Files.writeString(file, HEADER + "P0001,Ann Lee,ann@iit.ac.lk,Valorant,8,ATTACKER,95\n"
+                + "P0002,Bob Ray,bob@iit.ac.lk,Dota,4,SUPPORT,60\n");
+        assertEquals(2, second.poll());
+    }
+}
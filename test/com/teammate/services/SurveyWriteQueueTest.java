@@ -0,0 +1,116 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SurveyWriteQueueTest {
+
+    // TEST 1: Concurrent submissions are all durable, header written once
+    @Test
+    public void concurrentSubmissions_AreAllWritten(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        int threads = 8;
+        int perThread = 50;
+        List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+
+        try (SurveyWriteQueue queue = new SurveyWriteQueue(file, 64, 32)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        String id = String.format("P%d%03d", thread + 1, i);
+                        futures.add(queue.submit(new Participant(id, "Player " + id, id.toLowerCase() + "@iit.ac.lk",
+                                "Chess", 5, GameRole.DEFENDER, 70)));
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(FileHandler.PARTICIPANT_HEADER, lines.get(0));
+        assertEquals(threads * perThread + 1, lines.size());
+        assertEquals(threads * perThread, new HashSet<>(lines.subList(1, lines.size())).size());
+    }
+
+    // TEST 2: Closing commits queued rows, later submissions fail
+    @Test
+    public void close_FlushesThenRejects(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        Participant p = new Participant("P0001", "Ann Lee", "ann@iit.ac.lk", "FIFA", 6, GameRole.SUPPORT, 88);
+
+        SurveyWriteQueue queue = new SurveyWriteQueue(file);
+        CompletableFuture<Void> accepted = queue.submit(p);
+        queue.close();
+
+        assertTrue(accepted.isDone() && !accepted.isCompletedExceptionally());
+        assertEquals(2, Files.readAllLines(file).size());
+        assertThrows(ExecutionException.class, () -> queue.submit(p).get());
+    }
+
+    // TEST 3: Submissions racing close() always complete, even with a full queue
+    @Test
+    public void submitRacingClose_NeverHangs(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        SurveyWriteQueue queue = new SurveyWriteQueue(file, 2, 1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < 200; i++) {
+                    String id = String.format("P%d%03d", thread + 1, i);
+                    futures.add(queue.submit(new Participant(id, "Player " + id, id.toLowerCase() + "@iit.ac.lk",
+                            "Chess", 5, GameRole.DEFENDER, 70)));
+                }
+            });
+        }
+        started.await();
+        queue.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        int committed = 0;
+        for (CompletableFuture<Void> future : futures) {
+            assertTrue(future.isDone());
+            if (!future.isCompletedExceptionally()) committed++;
+        }
+        int rows = Files.exists(file) ? Files.readAllLines(file).size() - 1 : 0;
+        assertEquals(committed, Math.max(0, rows));
+    }
+
+    // TEST 4: Rows submitted after players.csv is replaced by a rename go to the new file
+    @Test
+    public void replacedFile_IsReopened(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        Participant ann = new Participant("P0001", "Ann Lee", "ann@iit.ac.lk", "FIFA", 6, GameRole.SUPPORT, 88);
+        Participant bob = new Participant("P0002", "Bob Ray", "bob@iit.ac.lk", "Dota", 4, GameRole.DEFENDER, 60);
+
+        try (SurveyWriteQueue queue = new SurveyWriteQueue(file)) {
+            queue.submit(ann).get(10, TimeUnit.SECONDS);
+
+            Path restored = dir.resolve("players.csv.restore");
+            Files.write(restored, List.of(FileHandler.PARTICIPANT_HEADER));
+            Files.move(restored, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            queue.submit(bob).get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of(FileHandler.PARTICIPANT_HEADER, FileHandler.formatParticipantRow(bob)),
+                Files.readAllLines(file));
+    }
+}
@@ -42,4 +42,205 @@ public class TeamBuilderTest {
             new TeamBuilder(5, participants).formTeams();
         });
     }
-}
\ No newline at end of file
+
+    // TEST 3: Skill-balanced strategy keeps leader/thinker rules and evens out team skill
+    @Test
+    public void skillBalancedTeams_HaveCloseTotals() throws TeamFormationException {
+        List<Participant> participants = TestRosters.roleCycling(400, 11, "Chess");
+        long leaders = participants.stream().filter(p -> p.getPersonalityType() == PersonalityType.LEADER).count();
+
+        List<Team> teams = new TeamBuilder(5, participants).formTeams(FormationStrategy.SKILL_BALANCED);
+
+        assertEquals(80, teams.size());
+        IntSummaryStatistics totals = teams.stream().mapToInt(Team::getTotalSkill).summaryStatistics();
+        assertTrue(totals.getMax() - totals.getMin() <= 10, "Skill totals too far apart: " + totals);
+        long teamsWithLeader = teams.stream().filter(Team::hasLeader).count();
+        assertEquals(Math.min(leaders, teams.size()), teamsWithLeader);
+    }
+
+    // TEST 4: Role coverage strategy gives every team all five roles when the roster allows it
+    @Test
+    public void roleCoverageTeams_CoverAllRoles() throws TeamFormationException {
+        List<Participant> participants = new ArrayList<>(TestRosters.roleCycling(200, 5, "Chess"));
+        Collections.shuffle(participants, new Random(5));
+
+        List<Team> teams = new TeamBuilder(5, participants).formTeams(FormationStrategy.ROLE_COVERAGE);
+
+        assertEquals(40, teams.size());
+        for (Team team : teams) {
+            assertEquals(5, team.getSize());
+            assertEquals(GameRole.ALL_ROLES_MASK, team.getRoleMask(), team.getTeamId() + " misses a role");
+        }
+    }
+
+    // TEST 5: Branch and bound matches brute force on a small roster
+    @Test
+    public void branchAndBound_FindsBruteForceOptimum() {
+        List<Participant> participants = TestRosters.random(9, 3, "Dota", "FIFA");
+        // Deliberately poor start: consecutive chunks of the roster
+        List<Team> start = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Team team = new Team("T" + (t + 1), "Team " + (t + 1));
+            participants.subList(t * 3, t * 3 + 3).forEach(team::addMember);
+            start.add(team);
+        }
+
+        BranchAndBoundSolver.Result result = new BranchAndBoundSolver(3, FormationObjective.DEFAULT, 10_000, 2).solve(start);
+
+        assertTrue(result.isOptimal());
+        assertEquals(bruteForce(participants, new int[9], 0, 3, 3), FormationObjective.DEFAULT.cost(result.getTeams()), 1e-6);
+    }
+
+    private static double bruteForce(List<Participant> players, int[] assignment, int next, int teams, int teamSize) {
+        if (next == players.size()) {
+            List<Team> formed = new ArrayList<>();
+            for (int t = 0; t < teams; t++) {
+                formed.add(new Team("T" + t, "Team " + t));
+            }
+            for (int i = 0; i < assignment.length; i++) {
+                formed.get(assignment[i]).addMember(players.get(i));
+            }
+            return FormationObjective.DEFAULT.cost(formed);
+        }
+        double best = Double.MAX_VALUE;
+        int[] counts = new int[teams];
+        for (int i = 0; i < next; i++) {
+            counts[assignment[i]]++;
+        }
+        for (int t = 0; t < teams; t++) {
+            if (counts[t] < teamSize) {
+                assignment[next] = t;
+                best = Math.min(best, bruteForce(players, assignment, next + 1, teams, teamSize));
+            }
+        }
+        return best;
+    }
+
+    // TEST 6: Genetic search is repeatable for a seed, improves on its greedy seeds, and migrates
+    @Test
+    public void geneticEngine_IsDeterministicAndImprovesOnSeeds() {
+        List<Participant> participants = TestRosters.random(40, 11, "Valorant", "Dota", "FIFA");
+        List<List<Team>> seeds = List.of(new SkillBalancer(5).form(participants),
+                new RoleCoverageOptimizer(5).form(participants));
+
+        GeneticFormationEngine.Result first = new GeneticFormationEngine(5, FormationObjective.DEFAULT, 3, 16, 60,
+                60_000, 7, 2).evolve(seeds);
+        GeneticFormationEngine.Result second = new GeneticFormationEngine(5, FormationObjective.DEFAULT, 3, 16, 60,
+                60_000, 7, 2).evolve(seeds);
+
+        assertEquals(60, first.getGenerations());
+        assertTrue(first.getCost() < first.getInitialCost());
+        assertEquals(first.getCost(), FormationObjective.DEFAULT.cost(first.getTeams()), 1e-6);
+        assertEquals(memberIds(first.getTeams()), memberIds(second.getTeams()));
+        for (Team team : first.getTeams()) {
+            assertEquals(5, team.getSize());
+        }
+
+        // The run ends on a migration, which copies the best genome to the next island in the ring:
+        // the winning cost is held by at least two islands, and no island can beat the reported one
+        double[] islandCosts = first.getIslandCosts();
+        long holders = Arrays.stream(islandCosts).filter(cost -> cost == first.getCost()).count();
+        assertTrue(holders >= 2, "best genome did not migrate: " + Arrays.toString(islandCosts));
+        assertEquals(first.getCost(), Arrays.stream(islandCosts).min().getAsDouble());
+    }
+
+    private static List<List<String>> memberIds(List<Team> teams) {
+        List<List<String>> ids = new ArrayList<>();
+        for (Team team : teams) {
+            List<String> members = new ArrayList<>();
+            team.getMembersView().forEach(member -> members.add(member.getParticipantId()));
+            ids.add(members);
+        }
+        return ids;
+    }
+
+    // TEST 7: Pareto options are complete formations and none dominates another
+    @Test
+    public void paretoFormations_AreMutuallyNonDominated() throws TeamFormationException {
+        List<Participant> participants = TestRosters.random(30, 5, "Valorant", "Dota", "FIFA");
+        TeamBuilder builder = new TeamBuilder(5, participants);
+        builder.setGeneticGenerations(20);
+
+        List<FormationOption> options = builder.findParetoFormations();
+
+        assertFalse(options.isEmpty());
+        for (FormationOption a : options) {
+            assertEquals(6, a.getTeams().size());
+            assertNotNull(a.getAnalysis().get("objective_cost"));
+            for (FormationOption b : options) {
+                assertFalse(dominates(objectives(a.getScore()), objectives(b.getScore())),
+                        a.getLabel() + " dominates " + b.getLabel());
+            }
+        }
+        assertEquals(6, builder.useFormation(options.get(0)).size());
+    }
+
+    // TEST 8: Non-dominated sort ranks fronts: each front is dominated only by earlier fronts
+    @Test
+    public void nonDominatedFronts_RankCandidates() {
+        List<Participant> participants = TestRosters.random(30, 9, "Valorant", "Dota", "FIFA");
+        Random random = new Random(9);
+        List<ParetoFormationSearch.Candidate> candidates = new ArrayList<>();
+        for (int c = 0; c < 40; c++) {
+            // Random splits of the roster give a spread of skill, role and game objectives
+            List<Participant> shuffled = new ArrayList<>(participants);
+            Collections.shuffle(shuffled, random);
+            List<Team> teams = new ArrayList<>();
+            for (int t = 0; t < 6; t++) {
+                Team team = new Team("T" + (t + 1), "Team " + (t + 1));
+                shuffled.subList(t * 5, t * 5 + 5).forEach(team::addMember);
+                teams.add(team);
+            }
+            candidates.add(new ParetoFormationSearch.Candidate("split " + c, teams));
+        }
+
+        List<List<ParetoFormationSearch.Candidate>> fronts = ParetoFormationSearch.nonDominatedFronts(candidates);
+
+        assertTrue(fronts.size() > 1, "expected more than one front");
+        assertEquals(candidates.size(), fronts.stream().mapToInt(List::size).sum());
+        for (int f = 0; f < fronts.size(); f++) {
+            for (ParetoFormationSearch.Candidate a : fronts.get(f)) {
+                for (ParetoFormationSearch.Candidate b : fronts.get(f)) {
+                    assertFalse(dominates(a.objectives, b.objectives), a.label + " dominates " + b.label + " in front " + f);
+                }
+                if (f > 0) {
+                    assertTrue(fronts.get(f - 1).stream().anyMatch(p -> dominates(p.objectives, a.objectives)),
+                            a.label + " is not dominated by front " + (f - 1));
+                }
+            }
+        }
+    }
+
+    private static double[] objectives(FormationObjective.Score score) {
+        return new double[] {score.getSkillVariance(), score.getMissingRoles(), score.getGameOverlap()};
+    }
+
+    // No worse on every objective and strictly better on one (all minimised)
+    private static boolean dominates(double[] a, double[] b) {
+        boolean better = false;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] > b[i]) return false;
+            if (a[i] < b[i]) better = true;
+        }
+        return better;
+    }
+
+    // TEST 9: A roster with every row twice (players.csv is not deduplicated) forms under every strategy
+    @Test
+    public void duplicateRows_FormUnderEveryStrategy() throws TeamFormationException {
+        List<Participant> participants = new ArrayList<>();
+        for (Participant p : TestRosters.random(10, 9, "Valorant", "Dota")) {
+            participants.add(p);
+            participants.add(new Participant(p.getParticipantId(), p.getName(), p.getEmail(), p.getGameInterest(),
+                    p.getSkillLevel(), p.getPreferredRole(), p.getPersonalityScore()));
+        }
+
+        for (FormationStrategy strategy : FormationStrategy.values()) {
+            TeamBuilder builder = new TeamBuilder(5, participants);
+            builder.setSearchTimeLimit(200);
+            builder.setGeneticGenerations(5);
+            List<Team> teams = builder.formTeams(strategy);
+            assertEquals(20, teams.stream().mapToInt(Team::getSize).sum(), strategy.name());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.teammate.services;
+
+import com.teammate.models.GameRole;
+import com.teammate.models.Participant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeded random rosters shared by the formation and roster tests.
+// IDs run P0001, P0002, ...; random() repeats names (about four players per name) so name sorts have ties.
+final class TestRosters {
+
+    private TestRosters() {
+    }
+
+    static List<Participant> random(int size, long seed, String... games) {
+        Random random = new Random(seed);
+        int names = Math.max(1, size / 4);
+        List<Participant> roster = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            roster.add(new Participant(String.format("P%04d", i), "Player " + random.nextInt(names), "p" + i + "@iit.ac.lk",
+                    games[random.nextInt(games.length)], 1 + random.nextInt(10),
+                    GameRole.values()[random.nextInt(GameRole.values().length)], 50 + random.nextInt(51)));
+        }
+        return roster;
+    }
+
+    // Same shape, but roles cycle through GameRole in order so every role is equally represented
+    static List<Participant> roleCycling(int size, long seed, String game) {
+        Random random = new Random(seed);
+        GameRole[] roles = GameRole.values();
+        List<Participant> roster = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            roster.add(new Participant(String.format("P%04d", i), "Player " + i, "p" + i + "@iit.ac.lk",
+                    game, 1 + random.nextInt(10), roles[(i - 1) % roles.length], 50 + random.nextInt(51)));
+        }
+        return roster;
+    }
+}
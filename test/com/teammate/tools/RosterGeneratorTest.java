@@ -0,0 +1,52 @@
+package com.teammate.tools;
+
+import com.teammate.models.Participant;
+import com.teammate.models.PersonalityType;
+import com.teammate.services.FileHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterGeneratorTest {
+
+    // TEST 1: Same seed produces the same roster
+    @Test
+    public void sameSeed_SameOutput() throws Exception {
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        new RosterGenerator(7).withBadRowRate(0.1).generate(first, 200);
+        new RosterGenerator(7).withBadRowRate(0.1).generate(second, 200);
+
+        assertEquals(first.toString(), second.toString());
+        assertTrue(first.toString().startsWith(RosterGenerator.HEADER + "\n"));
+    }
+
+    // TEST 2: Generated file loads through FileHandler and bad rows are skipped
+    @Test
+    public void generatedFile_LoadsWithFileHandler(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("players.csv");
+        long badRows = new RosterGenerator(11).withBadRowRate(0.2).generate(file, 500);
+
+        List<Participant> loaded = new FileHandler().loadParticipants(file.toString());
+
+        assertTrue(badRows > 0);
+        assertEquals(500 - badRows, loaded.size());
+    }
+
+    // TEST 3: Distribution weights are respected
+    @Test
+    public void personalityWeights_AreRespected(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("leaders.csv");
+        new RosterGenerator(3)
+                .withPersonalityWeights(Map.of(PersonalityType.LEADER, 1.0))
+                .generate(file, 100);
+
+        List<Participant> loaded = new FileHandler().loadParticipants(file.toString());
+        assertTrue(loaded.stream().allMatch(p -> p.getPersonalityType() == PersonalityType.LEADER));
+    }
+}